@@ -1,21 +1,34 @@
 package org.jabref.benchmarks;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import javafx.collections.ObservableList;
+
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bst.BstVM;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
+import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.layout.format.XMLChars;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.JabRefCliPreferences;
@@ -23,12 +36,18 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.groups.AutomaticKeywordGroup;
+import org.jabref.model.groups.AutomaticPersonsGroup;
 import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
+import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
 
@@ -38,6 +57,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.runner.RunnerException;
 
 import static org.mockito.Mockito.mock;
@@ -45,10 +65,18 @@ import static org.mockito.Mockito.mock;
 @State(Scope.Thread)
 public class Benchmarks {
 
+    private static final int KEYWORD_GROUP_COUNT = 100;
+
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private String unicodeConversionString;
+    private final List<KeywordGroup> keywordGroups = new ArrayList<>();
+    private final List<BibEntry> bstEntries = new ArrayList<>();
+    private BstVM bstVM;
+    private final List<BibEntry> layoutEntries = new ArrayList<>();
+    private Layout htmlLayout;
 
     @Setup
     public void init() throws Exception {
@@ -61,17 +89,53 @@ public class Benchmarks {
             entry.setField(StandardField.TITLE, "This is my title " + i);
             entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
             entry.setField(StandardField.JOURNAL, "Journal Title " + i);
-            entry.setField(StandardField.KEYWORDS, "testkeyword");
+            entry.setField(StandardField.KEYWORDS, "testkeyword, Keyword" + (i % KEYWORD_GROUP_COUNT));
             entry.setField(StandardField.YEAR, "1" + i);
             entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
             database.insertEntry(entry);
         }
 
+        for (int i = 0; i < KEYWORD_GROUP_COUNT; i++) {
+            keywordGroups.add(new WordKeywordGroup("group" + i, GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "keyword" + i, false, ',', false));
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            bstEntries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i)
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + i)
+                    .withField(StandardField.VOLUME, String.valueOf(i % 50))
+                    .withField(StandardField.PAGES, i + "--" + (i + 10))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + (i % 70))));
+        }
+        try (InputStream bstStream = Benchmarks.class.getResourceAsStream("/bst/IEEEtran.bst")) {
+            bstVM = new BstVM(new String(bstStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            layoutEntries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i)
+                    .withField(StandardField.TITLE, "This is my {T}itle " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + i)
+                    .withField(StandardField.VOLUME, String.valueOf(i % 50))
+                    .withField(StandardField.PAGES, i + "--" + (i + 10))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + (i % 70))));
+        }
+        try (Reader layoutReader = new InputStreamReader(Benchmarks.class.getResourceAsStream("/resource/layout/html.layout"), StandardCharsets.UTF_8)) {
+            CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+            htmlLayout = new LayoutHelper(layoutReader, preferences.getLayoutFormatterPreferences(), JournalAbbreviationLoader.loadBuiltInRepository())
+                    .getLayoutFromText();
+        }
+
         bibtexString = getOutputWriter().toString();
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        unicodeConversionString = "Österreich – Mönch and Ærøskøbing: α ≤ β, naïve café";
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -128,6 +192,18 @@ public class Benchmarks {
         return f.format(latexConversionString);
     }
 
+    @Benchmark
+    public String unicodeToLatexConversion() {
+        UnicodeToLatexFormatter f = new UnicodeToLatexFormatter();
+        return f.format(unicodeConversionString);
+    }
+
+    @Benchmark
+    public String latexToXMLConversion() {
+        XMLChars f = new XMLChars();
+        return f.format(latexConversionString);
+    }
+
     @Benchmark
     public String htmlToLatexConversion() {
         HtmlToLatexFormatter f = new HtmlToLatexFormatter();
@@ -140,6 +216,80 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public int manyKeywordGroupsContains() {
+        int matches = 0;
+        for (BibEntry entry : database.getEntries()) {
+            for (KeywordGroup group : keywordGroups) {
+                if (group.contains(entry)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public boolean regexKeywordGroupContains() {
+        KeywordGroup group = new RegexKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "testkeyword", false);
+        return group.containsAll(database.getEntries());
+    }
+
+    @Benchmark
+    public boolean regexKeywordGroupWithPatternContains() {
+        KeywordGroup group = new RegexKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "key.*5", false);
+        return group.containsAny(database.getEntries());
+    }
+
+    @Benchmark
+    public ObservableList<GroupTreeNode> automaticKeywordGroupCreateSubgroups() {
+        AutomaticKeywordGroup group = new AutomaticKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+        return group.createSubgroups(database.getEntries());
+    }
+
+    @Benchmark
+    public ObservableList<GroupTreeNode> automaticPersonsGroupCreateSubgroups() {
+        AutomaticPersonsGroup group = new AutomaticPersonsGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.AUTHOR);
+        return group.createSubgroups(database.getEntries());
+    }
+
+    @Benchmark
+    public int parseAuthors() {
+        return parseAllAuthors();
+    }
+
+    /**
+     * Same as {@link #parseAuthors()}, but with all threads parsing at the same time, sharing the author cache.
+     * Compare the throughput using <code>-t 1</code>, <code>-t 2</code>, ...
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int parseAuthorsConcurrently() {
+        return parseAllAuthors();
+    }
+
+    private int parseAllAuthors() {
+        int authors = 0;
+        for (BibEntry entry : database.getEntries()) {
+            authors += entry.getField(StandardField.AUTHOR).map(AuthorList::parse).map(AuthorList::getNumberOfAuthors).orElse(0);
+        }
+        return authors;
+    }
+
+    @Benchmark
+    public String bstRender() {
+        return bstVM.render(bstEntries);
+    }
+
+    @Benchmark
+    public int htmlLayoutRender() {
+        int length = 0;
+        for (BibEntry entry : layoutEntries) {
+            length += htmlLayout.doLayout(entry, database).length();
+        }
+        return length;
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
@@ -0,0 +1,162 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.http.JabrefMediaType;
+import org.jabref.http.dto.GsonFactory;
+import org.jabref.http.server.LibrariesResource;
+import org.jabref.http.server.LibraryConcurrencyFilter;
+import org.jabref.http.server.LibraryResource;
+import org.jabref.http.server.LibrarySnapshotCache;
+import org.jabref.http.server.Server;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.preferences.LastFilesOpenedPreferences;
+import org.jabref.logic.util.io.FileHistory;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.airhacks.afterburner.injection.Injector;
+import com.google.gson.Gson;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Load test of the http server: every benchmark thread is a client sending requests for a generated library as fast as
+ * possible. The server runs in the same JVM on a free local port without SSL.
+ * <p>
+ * Reports the throughput and, in the sample time mode, the latency percentiles (p0.99 is the p99 latency). Run, e.g.,
+ * <code>Benchmarks HttpServerBenchmark -t 64 -p useVirtualThreads=true</code> to simulate 64 concurrent clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class HttpServerBenchmark {
+
+    @Param({"false", "true"})
+    public boolean useVirtualThreads;
+
+    @Param({"10000"})
+    public int entryCount;
+
+    @Param({"4"})
+    public int maxConcurrentRequestsPerLibrary;
+
+    private Path library;
+    private HttpServer server;
+    private HttpClient client;
+    private URI libraryUri;
+    private URI entriesUri;
+    private String jsonEntityTag;
+
+    @Setup(Level.Trial)
+    public void startServer() throws IOException, InterruptedException {
+        library = Files.createTempFile("http-server-benchmark", ".bib");
+        StringBuilder bibtex = new StringBuilder();
+        for (int i = 0; i < entryCount; i++) {
+            bibtex.append("@Article{key").append(i).append(",\n")
+                  .append("  author = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB").append(i).append("},\n")
+                  .append("  title = {This is my title ").append(i).append("},\n")
+                  .append("  journal = {Journal Title ").append(i % 100).append("},\n")
+                  .append("  year = {").append(1950 + (i % 70)).append("},\n")
+                  .append("}\n\n");
+        }
+        Files.writeString(library, bibtex);
+
+        // Serve the generated library instead of the libraries opened last, without changing the stored preferences
+        CliPreferences realPreferences = JabRefCliPreferences.getInstance();
+        Injector.setModelOrService(CliPreferences.class, realPreferences);
+        CliPreferences preferences = mock(CliPreferences.class, delegatesTo(realPreferences));
+        doReturn(new LastFilesOpenedPreferences(List.of(library), library, FileHistory.of(List.of())))
+                .when(preferences).getLastFilesOpenedPreferences();
+
+        ResourceConfig resourceConfig = new ResourceConfig(LibrariesResource.class, LibraryResource.class, LibraryConcurrencyFilter.class)
+                .property(LibraryConcurrencyFilter.MAX_CONCURRENT_REQUESTS_PER_LIBRARY, maxConcurrentRequestsPerLibrary);
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(preferences).to(CliPreferences.class);
+                bind(new GsonFactory().provide()).to(Gson.class);
+                bind(new LibrarySnapshotCache(new DummyFileUpdateMonitor())).to(LibrarySnapshotCache.class);
+            }
+        });
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        URI baseUri = URI.create("http://localhost:" + port + "/");
+        server = Server.createServer(baseUri, resourceConfig, null, useVirtualThreads);
+        server.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        libraryUri = baseUri.resolve("libraries/" + LibrarySnapshotCache.getLibraryId(library));
+        entriesUri = baseUri.resolve("libraries/" + LibrarySnapshotCache.getLibraryId(library) + "/entries?limit=100");
+
+        // The first request parses the library, it is not measured
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(libraryUri).header("Accept", "application/json").build(), HttpResponse.BodyHandlers.discarding());
+        jsonEntityTag = response.headers().firstValue("ETag").orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws IOException {
+        server.shutdownNow();
+        Files.deleteIfExists(library);
+    }
+
+    private int get(URI uri, String mediaType) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri).header("Accept", mediaType).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int getJson() throws IOException, InterruptedException {
+        return get(libraryUri, "application/json");
+    }
+
+    @Benchmark
+    public int getJsonNotModified() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(libraryUri)
+                                         .header("Accept", "application/json")
+                                         .header("If-None-Match", jsonEntityTag)
+                                         .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Reads the library file on every request
+     */
+    @Benchmark
+    public int getBibtex() throws IOException, InterruptedException {
+        return get(libraryUri, JabrefMediaType.BIBTEX);
+    }
+
+    @Benchmark
+    public int getEntriesPage() throws IOException, InterruptedException {
+        return get(entriesUri, "application/json");
+    }
+}
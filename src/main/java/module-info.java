@@ -73,6 +73,9 @@ open module org.jabref {
     requires java.net.http;
     requires jakarta.ws.rs;
     requires org.glassfish.grizzly;
+    requires org.glassfish.grizzly.http.server;
+    requires org.glassfish.jersey.core.server;
+    requires org.glassfish.jersey.container.grizzly2.http;
     // endregion
 
     // region: data mapping
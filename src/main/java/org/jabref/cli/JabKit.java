@@ -7,6 +7,7 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,7 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import com.airhacks.afterburner.injection.Injector;
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.cli.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +49,8 @@ import org.tinylog.configuration.Configuration;
 ///
 /// Does not do any preference migrations.
 public class JabKit {
+    private static final String IMPORT_TO_OPEN_OPTION = "--importToOpen";
+
     private static Logger LOGGER;
 
     public static void main(String[] args) {
@@ -176,32 +180,66 @@ public class JabKit {
         LOGGER.trace("Checking for remote handling...");
         if (remotePreferences.useRemoteServer()) {
             // Try to contact already running JabRef
-            RemoteClient remoteClient = new RemoteClient(remotePreferences.getPort());
-            if (remoteClient.ping()) {
-                LOGGER.debug("Pinging other instance succeeded.");
-                if (args.length == 0) {
-                    // There is already a server out there, avoid showing log "Passing arguments" while no arguments are provided.
-                    LOGGER.warn("This JabRef instance is already running. Please switch to that instance.");
-                } else {
-                    // We are not alone, there is already a server out there, send command line arguments to other instance
-                    LOGGER.debug("Passing arguments passed on to running JabRef...");
-                    if (remoteClient.sendCommandLineArguments(args)) {
-                        // So we assume it's all taken care of, and quit.
-                        // Output to both to the log and the screen. Therefore, we do not have an additional System.out.println.
-                        LOGGER.info("Arguments passed on to running JabRef instance. Shutting down.");
+            try (RemoteClient remoteClient = new RemoteClient(remotePreferences.getPort())) {
+                if (remoteClient.ping()) {
+                    LOGGER.debug("Pinging other instance succeeded.");
+                    if (args.length == 0) {
+                        // There is already a server out there, avoid showing log "Passing arguments" while no arguments are provided.
+                        LOGGER.warn("This JabRef instance is already running. Please switch to that instance.");
                     } else {
-                        LOGGER.warn("Could not communicate with other running JabRef instance.");
+                        // We are not alone, there is already a server out there, send command line arguments to other instance
+                        LOGGER.debug("Passing arguments passed on to running JabRef...");
+                        List<String[]> batch = splitImportsToOpen(args);
+                        boolean sent = batch.size() > 1
+                                       ? remoteClient.sendCommandLineArguments(batch)
+                                       : remoteClient.sendCommandLineArguments(args);
+                        if (sent) {
+                            // So we assume it's all taken care of, and quit.
+                            // Output to both to the log and the screen. Therefore, we do not have an additional System.out.println.
+                            LOGGER.info("Arguments passed on to running JabRef instance. Shutting down.");
+                        } else {
+                            LOGGER.warn("Could not communicate with other running JabRef instance.");
+                        }
                     }
+                    // We do not launch a new instance in presence if there is another instance running
+                    return false;
+                } else {
+                    LOGGER.debug("Could not ping JabRef instance.");
                 }
-                // We do not launch a new instance in presence if there is another instance running
-                return false;
-            } else {
-                LOGGER.debug("Could not ping JabRef instance.");
             }
         }
         return true;
     }
 
+    /**
+     * Splits the arguments into one set of arguments per {@code --importToOpen}, so that a running instance imports
+     * each of the files and not only the first one. The other arguments form the first set.
+     *
+     * @return a single set of arguments if there is at most one file to import
+     */
+    @VisibleForTesting
+    static List<String[]> splitImportsToOpen(String[] args) {
+        List<String[]> batch = new ArrayList<>();
+        List<String> otherArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (IMPORT_TO_OPEN_OPTION.equals(args[i]) && ((i + 1) < args.length)) {
+                batch.add(new String[] {args[i], args[i + 1]});
+                i++;
+            } else if (args[i].startsWith(IMPORT_TO_OPEN_OPTION + "=")) {
+                batch.add(new String[] {args[i]});
+            } else {
+                otherArgs.add(args[i]);
+            }
+        }
+        if (batch.size() <= 1) {
+            return Collections.singletonList(args);
+        }
+        if (!otherArgs.isEmpty()) {
+            batch.addFirst(otherArgs.toArray(String[]::new));
+        }
+        return batch;
+    }
+
     private static void configureProxy(ProxyPreferences proxyPreferences) {
         ProxyRegisterer.register(proxyPreferences);
         if (proxyPreferences.shouldUseProxy() && proxyPreferences.shouldUseAuthentication()) {
@@ -28,6 +28,8 @@ import org.jabref.gui.util.DefaultDirectoryMonitor;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.ai.AiService;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.MVStoreRenderedCitationsStorage;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.ProxyRegisterer;
 import org.jabref.logic.os.OS;
@@ -35,6 +37,7 @@ import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.FallbackExceptionHandler;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
@@ -57,12 +60,15 @@ public class JabRefGUI extends Application {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JabRefGUI.class);
 
+    private static final String RENDERED_CITATIONS_FILE_NAME = "rendered-citations.mv";
+
     private static List<UiCommand> uiCommands;
     private static GuiPreferences preferences;
     private static FileUpdateMonitor fileUpdateMonitor;
 
     // AI Service handles chat messages etc. Therefore, it is tightly coupled to the GUI.
     private static AiService aiService;
+    private static MVStoreRenderedCitationsStorage renderedCitationsStorage;
 
     private static StateManager stateManager;
     private static ThemeManager themeManager;
@@ -175,6 +181,11 @@ public class JabRefGUI extends Application {
                 dialogService,
                 taskExecutor);
         Injector.setModelOrService(AiService.class, aiService);
+
+        JabRefGUI.renderedCitationsStorage = new MVStoreRenderedCitationsStorage(
+                Directories.getCitationsCacheDirectory().resolve(RENDERED_CITATIONS_FILE_NAME),
+                dialogService);
+        CitationStyleGenerator.setRenderedCitationsStorage(renderedCitationsStorage);
     }
 
     private void setupProxy() {
@@ -380,6 +391,9 @@ public class JabRefGUI extends Application {
         } catch (Exception e) {
             LOGGER.error("Unable to close AI service", e);
         }
+        LOGGER.trace("Closing citations cache");
+        CitationStyleGenerator.setRenderedCitationsStorage(null);
+        renderedCitationsStorage.close();
         LOGGER.trace("Closing OpenOffice connection");
         OOBibBaseConnect.closeOfficeConnection();
         LOGGER.trace("Stopping background tasks");
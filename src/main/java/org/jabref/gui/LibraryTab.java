@@ -66,6 +66,7 @@ import org.jabref.gui.util.OptionalObjectProperty;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.citationstyle.CitationStyleCache;
+import org.jabref.logic.exporter.SaveIndex;
 import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
@@ -168,6 +169,7 @@ public class LibraryTab extends Tab {
 
     private ImportHandler importHandler;
     private IndexManager indexManager;
+    private SaveIndex saveIndex;
 
     private final AiService aiService;
 
@@ -228,6 +230,7 @@ public class LibraryTab extends Tab {
         this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferences, taskExecutor, getIndexManager(), selectedGroupsProperty(), searchQueryProperty(), resultSizeProperty());
 
         new CitationStyleCache(bibDatabaseContext);
+        saveIndex = new SaveIndex(bibDatabaseContext.getDatabase());
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferences.getFilePreferences());
         importHandler = new ImportHandler(
                 bibDatabaseContext,
@@ -825,6 +828,10 @@ public class LibraryTab extends Tab {
         return this.bibDatabaseContext;
     }
 
+    public SaveIndex getSaveIndex() {
+        return saveIndex;
+    }
+
     public DirectoryMonitorManager getDirectoryMonitorManager() {
         return directoryMonitorManager;
     }
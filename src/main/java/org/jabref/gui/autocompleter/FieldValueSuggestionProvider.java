@@ -1,26 +1,41 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import org.controlsfx.control.textfield.AutoCompletionBinding;
+
 /**
  * Stores the full content of one field.
  */
 class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     FieldValueSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        this(createIndex(field, database));
+    }
+
+    FieldValueSuggestionProvider(SuggestionIndex<String> index) {
+        this.index = index;
+    }
+
+    static SuggestionIndex<String> createIndex(Field field, BibDatabase database) {
+        Objects.requireNonNull(field);
+        return new SuggestionIndex<>(database, List.of(field), entry -> entry.getField(field).stream().toList(), value -> value);
+    }
+
+    @Override
+    protected Stream<String> getCandidates(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.getMatches(request.getUserText(), candidate -> isMatch(candidate, request), MAX_SUGGESTIONS).stream();
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return index.getSuggestions();
     }
 }
@@ -3,21 +3,27 @@ package org.jabref.gui.autocompleter;
 import java.util.stream.Stream;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
-import org.jabref.model.database.BibDatabase;
-import org.jabref.model.entry.field.Field;
 
 import com.google.common.collect.Streams;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
     private final JournalAbbreviationRepository repository;
 
-    JournalsSuggestionProvider(Field field, BibDatabase database, JournalAbbreviationRepository repository) {
-        super(field, database);
+    JournalsSuggestionProvider(SuggestionIndex<String> index, JournalAbbreviationRepository repository) {
+        super(index);
 
         this.repository = repository;
     }
 
+    @Override
+    protected Stream<String> getCandidates(AutoCompletionBinding.ISuggestionRequest request) {
+        // Values of the library first
+        return Streams.concat(super.getCandidates(request),
+                repository.getFullNames().stream().filter(candidate -> isMatch(candidate, request)));
+    }
+
     @Override
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
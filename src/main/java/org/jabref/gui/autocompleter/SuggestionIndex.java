@@ -0,0 +1,199 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the suggestions found in some fields of the entries of a library, together with the number of their
+ * occurrences.
+ * <p>
+ * The index is built when it is used for the first time. Afterward, it follows the changes of the library: only the
+ * suggestions of added, removed and changed entries are updated. Every suggestion is indexed under each of its words
+ * (lower-cased) in a sorted map. Thus, the suggestions having a word starting with the user input are found without
+ * looking at the other suggestions.
+ *
+ * @param <T> Type of suggestions
+ */
+class SuggestionIndex<T> {
+
+    /**
+     * Longer word starts are truncated to keep the index small for long values
+     */
+    private static final int MAX_WORD_START_LENGTH = 32;
+
+    private final BibDatabase database;
+    private final Collection<Field> fields;
+    private final Function<BibEntry, Collection<T>> suggestionsOfEntry;
+    private final Function<T, String> textOf;
+
+    /**
+     * Guarded by {@code this}
+     */
+    private boolean initialized;
+    private final Map<BibEntry, Collection<T>> entrySuggestions = new IdentityHashMap<>();
+    private final Map<T, Integer> occurrences = new HashMap<>();
+    private final NavigableMap<String, Set<T>> suggestionsByWordStart = new TreeMap<>();
+
+    /**
+     * @param fields             the fields the suggestions are taken from, changes of other fields are ignored
+     * @param suggestionsOfEntry returns the suggestions found in the fields of the given entry
+     * @param textOf             returns the text the user input is matched against
+     */
+    SuggestionIndex(BibDatabase database,
+                    Collection<Field> fields,
+                    Function<BibEntry, Collection<T>> suggestionsOfEntry,
+                    Function<T, String> textOf) {
+        this.database = database;
+        this.fields = fields;
+        this.suggestionsOfEntry = suggestionsOfEntry;
+        this.textOf = textOf;
+    }
+
+    private void ensureInitialized() {
+        if (!initialized) {
+            initialized = true;
+            // Register first: an entry added concurrently is indexed (again) when the event arrives
+            database.registerListener(this);
+            new ArrayList<>(database.getEntries()).forEach(this::update);
+        }
+    }
+
+    /**
+     * Returns all distinct suggestions.
+     */
+    synchronized Stream<T> getSuggestions() {
+        ensureInitialized();
+        return new ArrayList<>(occurrences.keySet()).stream();
+    }
+
+    /**
+     * Returns the suggestions matching the given user input, the most frequent first.
+     * <p>
+     * If at least {@code limit} suggestions have a word starting with the input, only these are returned. Otherwise, all
+     * suggestions are checked.
+     *
+     * @param isMatch decides whether a suggestion matches the user input
+     */
+    synchronized List<T> getMatches(String userText, Predicate<T> isMatch, int limit) {
+        ensureInitialized();
+        String prefix = truncate(userText.toLowerCase(Locale.ROOT));
+        Set<T> matches = new HashSet<>();
+        for (Set<T> suggestions : suggestionsByWordStart.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            suggestions.stream().filter(isMatch).forEach(matches::add);
+        }
+        if (matches.size() < limit) {
+            occurrences.keySet().stream().filter(isMatch).forEach(matches::add);
+        }
+
+        List<T> result = new ArrayList<>(matches);
+        result.sort(Comparator.<T>comparingInt(occurrences::get).reversed().thenComparing(textOf));
+        return result;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (initialized) {
+            event.getBibEntries().forEach(this::update);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (initialized) {
+            event.getBibEntries().forEach(this::remove);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        if (!initialized || ((event instanceof FieldChangedEvent fieldChange) && !fields.contains(fieldChange.getField()))) {
+            return;
+        }
+        // Changes of entries removed from the library are still relayed by the library
+        if (entrySuggestions.containsKey(event.getBibEntry())) {
+            update(event.getBibEntry());
+        }
+    }
+
+    private void update(BibEntry entry) {
+        remove(entry);
+        Collection<T> suggestions = suggestionsOfEntry.apply(entry);
+        if (suggestions.isEmpty()) {
+            // Remember the entry anyway to follow its changes
+            entrySuggestions.put(entry, List.of());
+            return;
+        }
+        suggestions = List.copyOf(suggestions);
+        entrySuggestions.put(entry, suggestions);
+        for (T suggestion : suggestions) {
+            if (occurrences.merge(suggestion, 1, Integer::sum) == 1) {
+                getWordStarts(textOf.apply(suggestion)).forEach(wordStart ->
+                        suggestionsByWordStart.computeIfAbsent(wordStart, key -> new HashSet<>()).add(suggestion));
+            }
+        }
+    }
+
+    private void remove(BibEntry entry) {
+        Collection<T> suggestions = entrySuggestions.remove(entry);
+        if (suggestions == null) {
+            return;
+        }
+        for (T suggestion : suggestions) {
+            if (occurrences.merge(suggestion, -1, Integer::sum) == 0) {
+                occurrences.remove(suggestion);
+                for (String wordStart : getWordStarts(textOf.apply(suggestion))) {
+                    Set<T> indexed = suggestionsByWordStart.get(wordStart);
+                    if (indexed != null) {
+                        indexed.remove(suggestion);
+                        if (indexed.isEmpty()) {
+                            suggestionsByWordStart.remove(wordStart);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the lower-cased text from the beginning of each word to the end of the text, e.g., "test value" and
+     * "value" for "Test Value". Texts longer than {@link #MAX_WORD_START_LENGTH} are truncated.
+     */
+    static Set<String> getWordStarts(String text) {
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        Set<String> wordStarts = new HashSet<>();
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            if (Character.isLetterOrDigit(lowerCaseText.charAt(i))
+                    && ((i == 0) || !Character.isLetterOrDigit(lowerCaseText.charAt(i - 1)))) {
+                wordStarts.add(truncate(lowerCaseText.substring(i)));
+            }
+        }
+        return wordStarts;
+    }
+
+    private static String truncate(String text) {
+        return text.length() > MAX_WORD_START_LENGTH ? text.substring(0, MAX_WORD_START_LENGTH) : text;
+    }
+}
@@ -43,22 +43,31 @@ import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest
  */
 public abstract class SuggestionProvider<T> {
 
+    protected static final int MAX_SUGGESTIONS = 10;
+
     public final Collection<T> provideSuggestions(ISuggestionRequest request) {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
-                              .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
-                              .distinct()
-                              .limit(10)
-                              .map(Equivalence.Wrapper::get)
-                              .sorted(comparator)
-                              .collect(Collectors.toList());
+            return getCandidates(request).map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
+                                         .distinct()
+                                         .limit(MAX_SUGGESTIONS)
+                                         .map(Equivalence.Wrapper::get)
+                                         .sorted(comparator)
+                                         .collect(Collectors.toList());
         } else {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Returns the candidates matching the given request, the preferred ones first. Only the first {@link #MAX_SUGGESTIONS}
+     * distinct candidates are suggested.
+     */
+    protected Stream<T> getCandidates(ISuggestionRequest request) {
+        return getSource().filter(candidate -> isMatch(candidate, request));
+    }
+
     protected abstract Equivalence<T> getEquivalence();
 
     public List<T> getPossibleSuggestions() {
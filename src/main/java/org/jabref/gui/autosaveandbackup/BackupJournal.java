@@ -0,0 +1,218 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.logic.exporter.SaveIndex;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Append-only journal of the entry changes made after a backup file (the "base") was written.
+ * <p>
+ * The journal starts with a header describing the base: its size, the line separator, and the byte range of each
+ * entry. Afterward, records are appended: the new serialization of a changed or added entry, or the removal of an
+ * entry. Entries are identified by {@link org.jabref.model.entry.BibEntry#getId()}, which is only valid in the session
+ * which wrote the base. Thus, a journal is never continued after a restart. The backup is the base with the entries
+ * replaced, removed, and added as recorded. Added entries are placed after the entries of the base.
+ * <p>
+ * A record which was not written completely (e.g., because JabRef crashed) is ignored when reading the journal.
+ */
+final class BackupJournal {
+
+    static final String EXTENSION = ".journal";
+
+    private static final int FORMAT_VERSION = 1;
+    private static final byte ENTRY_RECORD = 'E';
+    private static final byte REMOVAL_RECORD = 'R';
+
+    private record BaseEntry(String id, SaveIndex.Range range) {
+    }
+
+    private record Header(long baseSize, byte[] newLineSeparator, List<BaseEntry> entries) {
+    }
+
+    private final Path file;
+    private final long baseSize;
+
+    private BackupJournal(Path file, long baseSize) {
+        this.file = file;
+        this.baseSize = baseSize;
+    }
+
+    static Path getJournalPath(Path baseFile) {
+        return baseFile.resolveSibling(baseFile.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Creates an empty journal for the given base.
+     *
+     * @param entryRanges the id and range of each entry of the base
+     */
+    static BackupJournal create(Path baseFile, byte[] newLineSeparator, Map<String, SaveIndex.Range> entryRanges) throws IOException {
+        long baseSize = Files.size(baseFile);
+        List<Map.Entry<String, SaveIndex.Range>> sortedEntries = new ArrayList<>(entryRanges.entrySet());
+        sortedEntries.sort(Map.Entry.comparingByValue((first, second) -> Long.compare(first.start(), second.start())));
+
+        Path journalFile = getJournalPath(baseFile);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(journalFile)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(baseSize);
+            out.writeInt(newLineSeparator.length);
+            out.write(newLineSeparator);
+            out.writeInt(sortedEntries.size());
+            for (Map.Entry<String, SaveIndex.Range> entry : sortedEntries) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().start());
+                out.writeLong(entry.getValue().end());
+            }
+        }
+        return new BackupJournal(journalFile, baseSize);
+    }
+
+    long getBaseSize() {
+        return baseSize;
+    }
+
+    long getSize() throws IOException {
+        return Files.size(file);
+    }
+
+    /**
+     * Appends the given changes and forces them to the disk.
+     *
+     * @param changedEntries the id and serialization of each changed or added entry
+     * @param removedEntries the ids of the removed entries
+     */
+    void append(Map<String, byte[]> changedEntries, Set<String> removedEntries) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            for (String id : removedEntries) {
+                out.writeByte(REMOVAL_RECORD);
+                out.writeUTF(id);
+            }
+            for (Map.Entry<String, byte[]> entry : changedEntries.entrySet()) {
+                out.writeByte(ENTRY_RECORD);
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+            out.flush();
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes the content of the backup consisting of the given base and its journal.
+     */
+    static void restore(Path baseFile, Path journalFile, OutputStream out) throws IOException {
+        Header header;
+        Map<String, byte[]> changedEntries = new LinkedHashMap<>();
+        Set<String> removedEntries = new HashSet<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalFile)))) {
+            header = readHeader(in);
+            readRecords(in, changedEntries, removedEntries);
+        }
+        if (header.baseSize() != Files.size(baseFile)) {
+            throw new IOException("Journal " + journalFile + " does not belong to " + baseFile);
+        }
+        if (header.entries().isEmpty()) {
+            Files.copy(baseFile, out);
+            return;
+        }
+
+        try (FileChannel base = FileChannel.open(baseFile, StandardOpenOption.READ)) {
+            copy(base, 0, header.entries().getFirst().range().start(), out);
+            boolean firstEntry = true;
+            for (BaseEntry entry : header.entries()) {
+                if (removedEntries.contains(entry.id())) {
+                    continue;
+                }
+                if (!firstEntry) {
+                    out.write(header.newLineSeparator());
+                }
+                firstEntry = false;
+                byte[] changedEntry = changedEntries.remove(entry.id());
+                if (changedEntry == null) {
+                    copy(base, entry.range().start(), entry.range().end(), out);
+                } else {
+                    out.write(changedEntry);
+                }
+            }
+            // The remaining changes are added entries
+            for (Map.Entry<String, byte[]> addedEntry : changedEntries.entrySet()) {
+                if (!removedEntries.contains(addedEntry.getKey())) {
+                    if (!firstEntry) {
+                        out.write(header.newLineSeparator());
+                    }
+                    firstEntry = false;
+                    out.write(addedEntry.getValue());
+                }
+            }
+            copy(base, header.entries().getLast().range().end(), header.baseSize(), out);
+        }
+    }
+
+    private static Header readHeader(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported backup journal version " + version);
+        }
+        long baseSize = in.readLong();
+        byte[] newLineSeparator = in.readNBytes(in.readInt());
+        int numberOfEntries = in.readInt();
+        List<BaseEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            entries.add(new BaseEntry(in.readUTF(), new SaveIndex.Range(in.readLong(), in.readLong())));
+        }
+        return new Header(baseSize, newLineSeparator, entries);
+    }
+
+    private static void readRecords(DataInputStream in, Map<String, byte[]> changedEntries, Set<String> removedEntries) throws IOException {
+        try {
+            int recordType;
+            while ((recordType = in.read()) != -1) {
+                String id = in.readUTF();
+                if (recordType == REMOVAL_RECORD) {
+                    removedEntries.add(id);
+                    changedEntries.remove(id);
+                } else if (recordType == ENTRY_RECORD) {
+                    int length = in.readInt();
+                    byte[] serialization = in.readNBytes(length);
+                    if (serialization.length < length) {
+                        // Incomplete last record
+                        return;
+                    }
+                    removedEntries.remove(id);
+                    changedEntries.put(id, serialization);
+                } else {
+                    throw new IOException("Unknown record type " + recordType + " in backup journal");
+                }
+            }
+        } catch (EOFException e) {
+            // Incomplete last record
+        }
+    }
+
+    private static void copy(FileChannel source, long start, long end, OutputStream out) throws IOException {
+        InputStream in = Channels.newInputStream(source.position(start));
+        ByteStreams.limit(in, end - start).transferTo(out);
+    }
+}
@@ -1,21 +1,27 @@
 package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
-import java.io.Writer;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -24,10 +30,14 @@ import javafx.scene.control.TableColumn;
 import org.jabref.gui.LibraryTab;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
+import org.jabref.logic.exporter.AtomicFileOutputStream;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SaveIndex;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
@@ -36,8 +46,10 @@ import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
@@ -50,6 +62,12 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * A backup consists of a complete .bak file and a {@link BackupJournal} recording the entries changed afterward.
+ * As long as only entries change, the changed entries are appended to the journal shortly after each change. Changes
+ * made within {@link #JOURNAL_COMMIT_DELAY_IN_MILLISECONDS} are written and forced to the disk together. A new .bak
+ * file is written if something else changed (e.g., the metadata) or if the journal got too large. Libraries using an
+ * encoding which is not stateless (see {@link SaveIndex#supportsRanges(Charset)}) are backed up by .bak files only.
  */
 public class BackupManager {
 
@@ -59,6 +77,15 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    private static final int JOURNAL_COMMIT_DELAY_IN_MILLISECONDS = 500;
+
+    private static final String BACKUP_EXTENSION = "." + BackupFileType.BACKUP.getExtensions().getFirst();
+
+    /**
+     * A new .bak file is written if the journal gets larger than this and larger than half of the .bak file
+     */
+    private static final long MINIMUM_JOURNAL_SIZE_FOR_COMPACTION = 1024 * 1024;
+
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -73,6 +100,19 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // Changes since the last backup, guarded by this
+    // Changed and added entries by their id, in the order they were changed first. Thus, added entries are journaled in the order they were added.
+    private final Map<String, BibEntry> changedEntries = new LinkedHashMap<>();
+    private final Set<String> removedEntries = new HashSet<>();
+    private boolean needsFullBackup = true;
+    private boolean journalCommitScheduled = false;
+
+    // Only one backup or journal commit is written at a time
+    private final Object backupLock = new Object();
+
+    // Journal of the latest .bak file, null if changes cannot be journaled. Guarded by backupLock
+    private BackupJournal journal;
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
@@ -158,9 +198,16 @@ public class BackupManager {
             return false;
         }
         return getLatestBackupPath(originalPath, backupDir).map(latestBackupPath -> {
+            Path journalPath = BackupJournal.getJournalPath(latestBackupPath);
             FileTime latestBackupFileLastModifiedTime;
             try {
                 latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
+                if (Files.exists(journalPath)) {
+                    FileTime journalLastModifiedTime = Files.getLastModifiedTime(journalPath);
+                    if (journalLastModifiedTime.compareTo(latestBackupFileLastModifiedTime) > 0) {
+                        latestBackupFileLastModifiedTime = journalLastModifiedTime;
+                    }
+                }
             } catch (IOException e) {
                 LOGGER.debug("Could not get timestamp of backup file {}", latestBackupPath, e);
                 // If we cannot get the timestamp, we do show any warning
@@ -180,7 +227,9 @@ public class BackupManager {
                 return false;
             }
             try {
-                boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                boolean result = Files.exists(journalPath)
+                                 ? journaledBackupDiffers(originalPath, latestBackupPath, journalPath)
+                                 : Files.mismatch(originalPath, latestBackupPath) != -1L;
                 if (result) {
                     LOGGER.info("Backup file {} differs from current file {}", latestBackupPath, originalPath);
                 }
@@ -193,8 +242,21 @@ public class BackupManager {
         }).orElse(false);
     }
 
+    private static boolean journaledBackupDiffers(Path originalPath, Path backupPath, Path journalPath) throws IOException {
+        Path restoredBackup = Files.createTempFile(backupPath.getParent(), backupPath.getFileName().toString(), ".restored");
+        try {
+            try (OutputStream out = Files.newOutputStream(restoredBackup)) {
+                BackupJournal.restore(backupPath, journalPath, out);
+            }
+            return Files.mismatch(originalPath, restoredBackup) != -1L;
+        } finally {
+            Files.deleteIfExists(restoredBackup);
+        }
+    }
+
     /**
      * Restores the backup file by copying and overwriting the original one.
+     * If there is a journal for the backup file, the journaled changes are applied.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
@@ -204,8 +266,15 @@ public class BackupManager {
             LOGGER.error("There is no backup file");
             return;
         }
+        Path journalPath = BackupJournal.getJournalPath(backupPath.get());
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.exists(journalPath)) {
+                try (OutputStream out = new AtomicFileOutputStream(originalPath)) {
+                    BackupJournal.restore(backupPath.get(), journalPath, out);
+                }
+            } else {
+                Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
@@ -226,12 +295,97 @@ public class BackupManager {
         if (!needsBackup) {
             return;
         }
+        synchronized (backupLock) {
+            if (canAppendToJournal()) {
+                appendToJournal();
+                if (canAppendToJournal()) {
+                    return;
+                }
+            }
+            performFullBackup(backupPath);
+        }
+    }
+
+    /**
+     * Appends the changes recorded since the last backup or commit to the journal. Called shortly after an entry
+     * changed. If a new .bak file is required, it is written by the next regular backup.
+     */
+    void commitJournal() {
+        synchronized (this) {
+            journalCommitScheduled = false;
+        }
+        synchronized (backupLock) {
+            if (canAppendToJournal()) {
+                appendToJournal();
+            }
+        }
+    }
+
+    private synchronized boolean canAppendToJournal() {
+        return !needsFullBackup && (journal != null);
+    }
+
+    /**
+     * Appends the entries changed since the last backup to the journal of the latest backup file.
+     * Sets {@link #needsFullBackup} if a new backup file needs to be written.
+     */
+    private void appendToJournal() {
+        List<BibEntry> entriesToAppend;
+        Set<String> removedEntryIds;
+        synchronized (this) {
+            // Changes made from now on are recorded for the next commit
+            entriesToAppend = List.copyOf(changedEntries.values());
+            changedEntries.clear();
+            removedEntryIds = new HashSet<>(removedEntries);
+            removedEntries.clear();
+            needsBackup = false;
+        }
+        if (entriesToAppend.isEmpty() && removedEntryIds.isEmpty()) {
+            return;
+        }
+
+        Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
+        BibEntryWriter entryWriter = new BibEntryWriter(new FieldWriter(preferences.getFieldPreferences()), entryTypesManager);
+        boolean reformat = preferences.getLibraryPreferences().shouldAlwaysReformatOnSave();
+        // Only the changed entries are serialized. Their order is kept, so that added entries are restored in this order.
+        Map<String, byte[]> serializedEntries = new LinkedHashMap<>();
+        try {
+            for (BibEntry entry : entriesToAppend) {
+                StringWriter serializedEntry = new StringWriter();
+                entryWriter.write(entry, new BibWriter(serializedEntry, newLineSeparator), bibDatabaseContext.getMode(), reformat);
+                // There is only a journal for stateless encodings, thus each entry can be encoded on its own
+                serializedEntries.put(entry.getId(), serializedEntry.toString().getBytes(encoding));
+            }
+            journal.append(serializedEntries, removedEntryIds);
+        } catch (IOException e) {
+            // The full backup written instead contains all changes
+            LOGGER.error("Could not append to backup journal", e);
+            requireFullBackup();
+            return;
+        }
 
+        try {
+            if (journal.getSize() > Math.max(MINIMUM_JOURNAL_SIZE_FOR_COMPACTION, journal.getBaseSize() / 2)) {
+                requireFullBackup();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine size of backup journal", e);
+        }
+    }
+
+    private synchronized void requireFullBackup() {
+        needsFullBackup = true;
+        needsBackup = true;
+    }
+
+    private void performFullBackup(Path backupPath) {
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
@@ -263,35 +417,84 @@ public class BackupManager {
 
         // "Clone" the database context
         // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
-        List<BibEntry> list = bibDatabaseContext.getDatabase().getEntries().stream()
-                                                .map(BibEntry::clone)
-                                                .map(BibEntry.class::cast)
-                                                .toList();
+        // Changes made while cloning are recorded again and end up in the journal
+        Map<BibEntry, String> originalIds = new IdentityHashMap<>();
+        List<BibEntry> list;
+        synchronized (this) {
+            list = bibDatabaseContext.getDatabase().getEntries().stream()
+                                     .map(entry -> {
+                                         BibEntry clone = (BibEntry) entry.clone();
+                                         originalIds.put(clone, entry.getId());
+                                         return clone;
+                                     })
+                                     .toList();
+            changedEntries.clear();
+            removedEntries.clear();
+            needsFullBackup = false;
+        }
         BibDatabase bibDatabaseClone = new BibDatabase(list);
         BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
 
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
+        // Records the ranges of the entries in the backup file for the journal
+        SaveIndex backupIndex = new SaveIndex(bibDatabaseClone);
+        SaveIndex.Update saveIndexUpdate = backupIndex.startSave(
+                backupPath,
+                encoding,
+                newLineSeparator,
+                bibDatabaseContextClone.getMode(),
+                preferences.getFieldPreferences(),
+                saveConfiguration.shouldReformatFile());
+        journal = null;
         // We want to have successful backups only
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
         // Example: What happens if one hard powers off the machine (or kills the jabref process) during writing of the backup?
         //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
-        try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
-            BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
-            new BibtexDatabaseWriter(
+        try (AtomicFileWriter writer = new AtomicFileWriter(backupPath, encoding, false)) {
+            BibWriter bibWriter = new BibWriter(writer, newLineSeparator);
+            BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
                     bibWriter,
                     saveConfiguration,
                     preferences.getFieldPreferences(),
                     preferences.getCitationKeyPatternPreferences(),
-                    entryTypesManager)
-                    // we save the clone to prevent the original database (and thus the UI) from being changed
-                    .saveDatabase(bibDatabaseContextClone);
-            backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
+                    entryTypesManager);
+            databaseWriter.useSaveIndex(saveIndexUpdate, writer);
+            // we save the clone to prevent the original database (and thus the UI) from being changed
+            databaseWriter.saveDatabase(bibDatabaseContextClone);
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+            requireFullBackup();
+            return;
+        }
+        backupFilesQueue.add(backupPath);
+        // We wrote the file successfully
+        // Thus, we currently do not need any new backup
+        this.needsBackup = false;
+
+        saveIndexUpdate.commit();
+        createJournal(backupPath, backupIndex, originalIds, encoding, newLineSeparator);
+    }
+
+    /**
+     * Creates the journal of the given backup file. Without a journal, the next change leads to a new backup file.
+     */
+    private void createJournal(Path backupPath, SaveIndex backupIndex, Map<BibEntry, String> originalIds, Charset encoding, String newLineSeparator) {
+        if (!SaveIndex.supportsRanges(encoding)) {
+            // Entries are encoded one by one for the journal, which only results in the bytes of the backup file for stateless encodings
+            return;
+        }
+        Map<String, SaveIndex.Range> entryRanges = new HashMap<>();
+        originalIds.forEach((clone, id) -> backupIndex.getRange(clone).ifPresent(range -> entryRanges.put(id, range)));
+        if (entryRanges.isEmpty()) {
+            // Changes can only be journaled relative to entries of the backup file
+            return;
+        }
+        try {
+            journal = BackupJournal.create(backupPath, newLineSeparator.getBytes(encoding), entryRanges);
+        } catch (IOException e) {
+            LOGGER.error("Could not create backup journal for {}", backupPath, e);
+            requireFullBackup();
         }
     }
 
@@ -328,12 +531,46 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        // Changes filtered out still need to be recorded
+        switch (event) {
+            case EntriesRemovedEvent removedEvent -> {
+                removedEvent.getBibEntries().forEach(entry -> {
+                    changedEntries.remove(entry.getId());
+                    removedEntries.add(entry.getId());
+                });
+                scheduleJournalCommit();
+            }
+            case EntriesEvent entriesEvent -> {
+                entriesEvent.getBibEntries().forEach(entry -> {
+                    removedEntries.remove(entry.getId());
+                    changedEntries.putIfAbsent(entry.getId(), entry);
+                });
+                scheduleJournalCommit();
+            }
+            default -> needsFullBackup = true;
+        }
         if (!event.isFilteredOut()) {
             this.needsBackup = true;
         }
     }
 
+    /**
+     * Changes made until the commit runs are written together
+     */
+    private void scheduleJournalCommit() {
+        if (journalCommitScheduled || needsFullBackup || executor.isShutdown()) {
+            return;
+        }
+        try {
+            executor.schedule(this::commitJournal, JOURNAL_COMMIT_DELAY_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+            journalCommitScheduled = true;
+        } catch (RejectedExecutionException e) {
+            // Shut down after the check above. The changes are written by the backup on shutdown, if requested.
+            LOGGER.debug("Backup manager already shut down, journal commit not scheduled", e);
+        }
+    }
+
     private void startBackupTask(Path backupDir) {
         fillQueue(backupDir);
 
@@ -356,6 +593,8 @@ public class BackupManager {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // skip other files stored along with the backups (e.g., journals and restored backups being compared)
+                                              .filter(p -> p.getFileName().toString().endsWith(BACKUP_EXTENSION))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
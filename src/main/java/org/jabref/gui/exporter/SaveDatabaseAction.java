@@ -31,6 +31,7 @@ import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SaveException;
+import org.jabref.logic.exporter.SaveIndex;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.l10n.Encodings;
 import org.jabref.logic.l10n.Localization;
@@ -256,8 +257,11 @@ public class SaveDatabaseAction {
                 = new SelfContainedSaveConfiguration(saveOrder, false, saveType, preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
         BibDatabaseContext bibDatabaseContext = libraryTab.getBibDatabaseContext();
         synchronized (bibDatabaseContext) {
+            String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
+            // Entries unchanged since the last save are copied from the file
+            SaveIndex.Update saveIndexUpdate = null;
             try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, encoding, saveConfiguration.shouldMakeBackup())) {
-                BibWriter bibWriter = new BibWriter(fileWriter, bibDatabaseContext.getDatabase().getNewLineSeparator());
+                BibWriter bibWriter = new BibWriter(fileWriter, newLineSeparator);
                 BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
                         bibWriter,
                         saveConfiguration,
@@ -268,6 +272,14 @@ public class SaveDatabaseAction {
                 if (selectedOnly) {
                     databaseWriter.savePartOfDatabase(bibDatabaseContext, libraryTab.getSelectedEntries());
                 } else {
+                    saveIndexUpdate = libraryTab.getSaveIndex().startSave(
+                            file,
+                            encoding,
+                            newLineSeparator,
+                            bibDatabaseContext.getMode(),
+                            preferences.getFieldPreferences(),
+                            saveConfiguration.shouldReformatFile());
+                    databaseWriter.useSaveIndex(saveIndexUpdate, fileWriter);
                     databaseWriter.saveDatabase(bibDatabaseContext);
                 }
 
@@ -281,6 +293,9 @@ public class SaveDatabaseAction {
             } catch (IOException ex) {
                 throw new SaveException("Problems saving: " + ex, ex);
             }
+            if (saveIndexUpdate != null) {
+                saveIndexUpdate.commit();
+            }
             return true;
         }
     }
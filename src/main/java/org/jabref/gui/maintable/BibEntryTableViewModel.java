@@ -10,16 +10,18 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.binding.Binding;
-import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.StringProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableValueBase;
 
 import org.jabref.gui.search.MatchCategory;
 import org.jabref.gui.specialfields.SpecialFieldValueViewModel;
@@ -44,9 +46,11 @@ public class BibEntryTableViewModel {
     private final ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter;
     private final Map<OrFields, ObservableValue<String>> fieldValues = new HashMap<>();
     private final Map<SpecialField, OptionalBinding<SpecialFieldValueViewModel>> specialFieldValues = new HashMap<>();
-    private final EasyBinding<List<LinkedFile>> linkedFiles;
-    private final EasyBinding<Map<Field, String>> linkedIdentifiers;
-    private final Binding<List<AbstractGroup>> matchedGroups;
+    // The bindings below observe the entry (and the groups). They are created when a table cell asks for them
+    // the first time, so that only rows which were visible pay for them.
+    private EasyBinding<List<LinkedFile>> linkedFiles;
+    private EasyBinding<Map<Field, String>> linkedIdentifiers;
+    private Binding<List<AbstractGroup>> matchedGroups;
     private final BibDatabaseContext bibDatabaseContext;
     private final BooleanProperty hasFullTextResults = new SimpleBooleanProperty(false);
     private final BooleanProperty isMatchedBySearch = new SimpleBooleanProperty(true);
@@ -59,10 +63,6 @@ public class BibEntryTableViewModel {
         this.entry = entry;
         this.bibDatabaseContext = bibDatabaseContext;
         this.fieldValueFormatter = fieldValueFormatter;
-
-        this.linkedFiles = getField(StandardField.FILE).mapOpt(FileFieldParser::parse).orElseOpt(Collections.emptyList());
-        this.linkedIdentifiers = createLinkedIdentifiersBinding(entry);
-        this.matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
     }
 
     private static EasyBinding<Map<Field, String>> createLinkedIdentifiersBinding(BibEntry entry) {
@@ -103,14 +103,23 @@ public class BibEntryTableViewModel {
     }
 
     public ObservableValue<List<LinkedFile>> getLinkedFiles() {
+        if (linkedFiles == null) {
+            linkedFiles = getField(StandardField.FILE).mapOpt(FileFieldParser::parse).orElseOpt(Collections.emptyList());
+        }
         return linkedFiles;
     }
 
     public ObservableValue<Map<Field, String>> getLinkedIdentifiers() {
+        if (linkedIdentifiers == null) {
+            linkedIdentifiers = createLinkedIdentifiersBinding(entry);
+        }
         return linkedIdentifiers;
     }
 
     public ObservableValue<List<AbstractGroup>> getMatchedGroups() {
+        if (matchedGroups == null) {
+            matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
+        }
         return matchedGroups;
     }
 
@@ -137,19 +146,7 @@ public class BibEntryTableViewModel {
     }
 
     public ObservableValue<String> getFields(OrFields fields) {
-        ObservableValue<String> value = fieldValues.get(fields);
-        if (value != null) {
-            return value;
-        }
-
-        ArrayList<Observable> observables = new ArrayList<>(List.of(entry.getObservables()));
-        observables.add(fieldValueFormatter);
-
-        value = Bindings.createStringBinding(() ->
-                        fieldValueFormatter.getValue().formatFieldsValues(fields, entry),
-                observables.toArray(Observable[]::new));
-        fieldValues.put(fields, value);
-        return value;
+        return fieldValues.computeIfAbsent(fields, FieldsValue::new);
     }
 
     public StringProperty bibDatabasePathProperty() {
@@ -201,4 +198,82 @@ public class BibEntryTableViewModel {
 
         matchCategory.set(category);
     }
+
+    /**
+     * The formatted value of fields of the entry.
+     * <p>
+     * Sorting the table reads the value of every row, but only visible rows observe it. Thus, the value is cached and
+     * validated by the modification count of the entry, and the entry is only observed while the value itself is
+     * observed (e.g., by a table cell).
+     */
+    private final class FieldsValue extends ObservableValueBase<String> {
+        private final OrFields fields;
+        private final InvalidationListener dependencyListener = observable -> fireValueChangedEvent();
+        private final List<Object> listeners = new ArrayList<>();
+
+        private boolean valid;
+        private String value;
+        private long modificationCount;
+        private MainTableFieldValueFormatter formatter;
+
+        private FieldsValue(OrFields fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public String getValue() {
+            MainTableFieldValueFormatter currentFormatter = fieldValueFormatter.getValue();
+            long currentModificationCount = entry.getModificationCount();
+            if (!valid || (currentModificationCount != modificationCount) || (currentFormatter != formatter)) {
+                value = currentFormatter.formatFieldsValues(fields, entry);
+                modificationCount = currentModificationCount;
+                formatter = currentFormatter;
+                valid = true;
+            }
+            return value;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            super.addListener(listener);
+            listenerAdded(listener);
+        }
+
+        @Override
+        public void addListener(ChangeListener<? super String> listener) {
+            super.addListener(listener);
+            listenerAdded(listener);
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            super.removeListener(listener);
+            listenerRemoved(listener);
+        }
+
+        @Override
+        public void removeListener(ChangeListener<? super String> listener) {
+            super.removeListener(listener);
+            listenerRemoved(listener);
+        }
+
+        private void listenerAdded(Object listener) {
+            if (listeners.isEmpty()) {
+                for (Observable observable : entry.getObservables()) {
+                    observable.addListener(dependencyListener);
+                }
+                fieldValueFormatter.addListener(dependencyListener);
+            }
+            listeners.add(listener);
+        }
+
+        private void listenerRemoved(Object listener) {
+            if (listeners.remove(listener) && listeners.isEmpty()) {
+                for (Observable observable : entry.getObservables()) {
+                    observable.removeListener(dependencyListener);
+                }
+                fieldValueFormatter.removeListener(dependencyListener);
+            }
+        }
+    }
 }
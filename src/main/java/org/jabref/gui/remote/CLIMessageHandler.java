@@ -1,12 +1,16 @@
 package org.jabref.gui.remote;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import javafx.application.Platform;
 
 import org.jabref.cli.ArgumentProcessor;
 import org.jabref.gui.frame.UiMessageHandler;
 import org.jabref.gui.preferences.GuiPreferences;
+import org.jabref.logic.UiCommand;
 import org.jabref.logic.remote.server.RemoteMessageHandler;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -35,6 +39,24 @@ public class CLIMessageHandler implements RemoteMessageHandler {
 
     @Override
     public void handleCommandLineArguments(String[] message) {
+        processArguments(message).ifPresent(uiCommands -> Platform.runLater(() -> uiMessageHandler.handleUiCommands(uiCommands)));
+    }
+
+    /**
+     * Processes all messages on the calling thread and passes their ui commands to the ui thread at once
+     */
+    @Override
+    public void handleCommandLineArgumentsBatch(List<String[]> messages) {
+        List<List<UiCommand>> uiCommandsOfMessages = new ArrayList<>(messages.size());
+        for (String[] message : messages) {
+            processArguments(message).ifPresent(uiCommandsOfMessages::add);
+        }
+        if (!uiCommandsOfMessages.isEmpty()) {
+            Platform.runLater(() -> uiCommandsOfMessages.forEach(uiMessageHandler::handleUiCommands));
+        }
+    }
+
+    private Optional<List<UiCommand>> processArguments(String[] message) {
         try {
             LOGGER.info("Processing message {}", Arrays.stream(message).toList());
             ArgumentProcessor argumentProcessor = new ArgumentProcessor(
@@ -44,9 +66,10 @@ public class CLIMessageHandler implements RemoteMessageHandler {
                     fileUpdateMonitor,
                     entryTypesManager);
             argumentProcessor.processArguments();
-            Platform.runLater(() -> uiMessageHandler.handleUiCommands(argumentProcessor.getUiCommands()));
+            return Optional.of(argumentProcessor.getUiCommands());
         } catch (ParseException e) {
             LOGGER.error("Error when parsing CLI args", e);
+            return Optional.empty();
         }
     }
 }
@@ -18,7 +18,7 @@ public class Application extends jakarta.ws.rs.core.Application {
     @Override
     public Set<Class<?>> getClasses() {
         initialize();
-        return Set.of(RootResource.class, LibrariesResource.class, LibraryResource.class, CORSFilter.class);
+        return Set.of(RootResource.class, LibrariesResource.class, LibraryResource.class, CORSFilter.class, LibraryConcurrencyFilter.class);
     }
 
     /**
@@ -27,5 +27,6 @@ public class Application extends jakarta.ws.rs.core.Application {
     private void initialize() {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
+        ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new LibrarySnapshotCacheFactory());
     }
 }
@@ -0,0 +1,205 @@
+package org.jabref.http.server;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+/**
+ * The entries of a library, located by {@link LibraryResource}.
+ * <p>
+ * Entries are returned in pages of at most {@code limit} entries. A page contains the cursor of the next page
+ * ({@code nextCursor}) unless it is the last one. A cursor is bound to the state of the library: if the library
+ * changed, "410 Gone" is returned and the client has to start again from the first page.
+ * <p>
+ * The following query parameters are supported:
+ * <ul>
+ *     <li>{@code q}: returns the entries matching the given search expression only (same syntax as the search bar).
+ *     The linked files are not searched.</li>
+ *     <li>{@code fields}: comma-separated list of the fields to return, e.g., {@code author,title}. The citation key
+ *     and entry type are always returned.</li>
+ *     <li>{@code cursor} and {@code limit}: see above</li>
+ * </ul>
+ * Pages are written entry by entry to the response (using chunked transfer encoding) instead of being built in memory.
+ */
+public class EntriesResource {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final LibrarySnapshotCache.LibrarySnapshot snapshot;
+    private final CliPreferences preferences;
+    private final Gson gson;
+    private final BibEntryTypesManager entryTypesManager;
+
+    EntriesResource(LibrarySnapshotCache.LibrarySnapshot snapshot, CliPreferences preferences, Gson gson, BibEntryTypesManager entryTypesManager) {
+        this.snapshot = snapshot;
+        this.preferences = preferences;
+        this.gson = gson;
+        this.entryTypesManager = entryTypesManager;
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntries(@QueryParam("q") String searchExpression,
+                               @QueryParam("fields") String fields,
+                               @QueryParam("cursor") String cursor,
+                               @QueryParam("limit") @DefaultValue("100") int limit) {
+        if ((limit < 1) || (limit > MAX_LIMIT)) {
+            throw new BadRequestException("limit has to be between 1 and " + MAX_LIMIT);
+        }
+        int offset = parseCursor(cursor);
+        Set<Field> projection = parseFields(fields);
+
+        List<BibEntry> entries = searchExpression == null
+                                 ? snapshot.getParserResult().getDatabase().getEntries()
+                                 : search(searchExpression);
+        int start = Math.min(offset, entries.size());
+        int end = Math.min(start + limit, entries.size());
+        List<BibEntry> page = entries.subList(start, end);
+        String nextCursor = end < entries.size() ? createCursor(end) : null;
+
+        StreamingOutput output = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            jsonWriter.beginObject();
+            jsonWriter.name("entries");
+            jsonWriter.beginArray();
+            for (BibEntry entry : page) {
+                gson.toJson(toDTO(entry, projection), BibEntryDTO.class, jsonWriter);
+            }
+            jsonWriter.endArray();
+            if (nextCursor != null) {
+                jsonWriter.name("nextCursor").value(nextCursor);
+            }
+            jsonWriter.endObject();
+            jsonWriter.flush();
+        };
+        return Response.ok(output).build();
+    }
+
+    @GET
+    @Path("{citationKey}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public String getEntry(@PathParam("citationKey") String citationKey, @QueryParam("fields") String fields) {
+        BibEntry entry = snapshot.getEntryByCitationKey(citationKey).orElseThrow(NotFoundException::new);
+        return gson.toJson(toDTO(entry, parseFields(fields)));
+    }
+
+    private List<BibEntry> search(String searchExpression) {
+        EnumSet<SearchFlags> searchFlags = preferences.getSearchPreferences().getSearchFlags();
+        // The linked files are not searched, see LibrarySnapshotCache.LibrarySnapshot#search
+        searchFlags.remove(SearchFlags.FULLTEXT);
+        SearchQuery searchQuery = new SearchQuery(searchExpression, searchFlags);
+        if (!searchQuery.isValid()) {
+            throw new BadRequestException("Invalid search expression");
+        }
+        try {
+            return snapshot.search(searchQuery, preferences)
+                           .orElseThrow(() -> new ServiceUnavailableException("The search index is not available"));
+        } catch (IllegalStateException e) {
+            // The library changed while searching: the next request gets a new snapshot
+            throw new ServiceUnavailableException(1L);
+        }
+    }
+
+    /**
+     * @param projection the fields to return, null to return all fields
+     */
+    private BibEntryDTO toDTO(BibEntry entry, Set<Field> projection) {
+        BibDatabaseMode mode = snapshot.getParserResult().getDatabaseContext().getMode();
+        // The entries of the snapshot are shared by concurrent requests, thus the shared id is set on a copy
+        BibEntry entryToSend;
+        if (projection == null) {
+            entryToSend = (BibEntry) entry.clone();
+        } else {
+            entryToSend = new BibEntry(entry.getType());
+            entry.getCitationKey().ifPresent(entryToSend::setCitationKey);
+            for (Field field : projection) {
+                entry.getField(field).ifPresent(value -> entryToSend.setField(field, value));
+            }
+        }
+        entryToSend.getSharedBibEntryData().setSharedID(Objects.hash(entry));
+        entryToSend.getSharedBibEntryData().setVersion(entry.getSharedBibEntryData().getVersion());
+        return new BibEntryDTO(entryToSend, mode, preferences.getFieldPreferences(), entryTypesManager);
+    }
+
+    private static Set<Field> parseFields(String fields) {
+        if (fields == null) {
+            return null;
+        }
+        return Arrays.stream(fields.split(","))
+                     .map(String::trim)
+                     .filter(field -> !field.isEmpty())
+                     .map(FieldFactory::parseField)
+                     .collect(Collectors.toSet());
+    }
+
+    private String createCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((snapshot.getVersion() + ":" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the offset encoded in the given cursor, 0 if there is none
+     */
+    private int parseCursor(String cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        int separator = decoded.lastIndexOf(':');
+        if (separator < 0) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!decoded.substring(0, separator).equals(snapshot.getVersion())) {
+            throw new ClientErrorException("The library changed, start again without cursor", Response.Status.GONE);
+        }
+        int offset;
+        try {
+            offset = Integer.parseInt(decoded.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (offset < 0) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return offset;
+    }
+}
@@ -3,7 +3,6 @@ package org.jabref.http.server;
 import java.util.List;
 
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.util.io.BackupFileUtil;
 
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
@@ -21,7 +20,7 @@ public class LibrariesResource {
     @Produces(MediaType.APPLICATION_JSON)
     public String get() {
         List<String> fileNamesWithUniqueSuffix = preferences.getLastFilesOpenedPreferences().getLastFilesOpened().stream()
-                                                            .map(p -> p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p))
+                                                            .map(LibrarySnapshotCache::getLibraryId)
                                                             .toList();
         return new Gson().toJson(fileNamesWithUniqueSuffix);
     }
@@ -0,0 +1,110 @@
+package org.jabref.http.server;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.preferences.CliPreferences;
+
+import com.google.common.annotations.VisibleForTesting;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.Context;
+import org.glassfish.jersey.server.CloseableService;
+
+/**
+ * Limits the number of requests processed at the same time for each library. Further requests for the library wait
+ * for a limited time. If no permit becomes available meanwhile, they are answered with "503 Service Unavailable" and a
+ * "Retry-After" header.
+ * <p>
+ * Requests for a library parse it, serialize its entries or search it. Without a limit, many concurrent requests
+ * (e.g., when handled on virtual threads) would all hold the memory needed for this at the same time. The permit is
+ * held until the response is written, which includes streamed responses.
+ * <p>
+ * A waiting request blocks the thread handling it. On Grizzly's fixed pool of worker threads (i.e., without
+ * {@code --virtual-threads}), many requests waiting for one library can occupy all workers, so that requests for other
+ * libraries are delayed by up to the maximum wait. With virtual threads, only the virtual threads wait.
+ */
+@jakarta.ws.rs.ext.Provider
+public class LibraryConcurrencyFilter implements ContainerRequestFilter {
+
+    /**
+     * Property of the application configuring the maximum number of concurrent requests per library
+     */
+    public static final String MAX_CONCURRENT_REQUESTS_PER_LIBRARY = "jabref.http.maxConcurrentRequestsPerLibrary";
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_LIBRARY = 4;
+
+    /**
+     * Property of the application configuring how long a request waits for a library, in milliseconds
+     */
+    public static final String MAX_WAIT_FOR_LIBRARY_MILLIS = "jabref.http.maxWaitForLibraryMillis";
+    public static final int DEFAULT_MAX_WAIT_FOR_LIBRARY_MILLIS = 5_000;
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final Map<Path, Semaphore> permitsByLibrary = new ConcurrentHashMap<>();
+
+    @Inject
+    CliPreferences preferences;
+
+    @Inject
+    LibrarySnapshotCache librarySnapshotCache;
+
+    @Inject
+    Provider<CloseableService> closeableService;
+
+    @Context
+    Configuration configuration;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String id = requestContext.getUriInfo().getPathParameters().getFirst("id");
+        if (id == null) {
+            return;
+        }
+        // Unknown ids are answered with "404 Not Found" right away and must not fill the map
+        Optional<Path> library = librarySnapshotCache.getLibraryPath(preferences.getLastFilesOpenedPreferences().getLastFilesOpened(), id);
+        if (library.isEmpty()) {
+            return;
+        }
+
+        Semaphore permits = getPermits(library.get());
+        try {
+            if (!permits.tryAcquire(getIntProperty(MAX_WAIT_FOR_LIBRARY_MILLIS, DEFAULT_MAX_WAIT_FOR_LIBRARY_MILLIS), TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException(RETRY_AFTER_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException();
+        }
+        // Closed by Jersey after the response is written, also if processing failed
+        closeableService.get().add(permits::release);
+    }
+
+    @VisibleForTesting
+    Semaphore getPermits(Path library) {
+        return permitsByLibrary.computeIfAbsent(library, path -> new Semaphore(getIntProperty(MAX_CONCURRENT_REQUESTS_PER_LIBRARY, DEFAULT_MAX_CONCURRENT_REQUESTS_PER_LIBRARY), true));
+    }
+
+    /**
+     * Returns the number of libraries requests were limited for
+     */
+    @VisibleForTesting
+    int getNumberOfLimitedLibraries() {
+        return permitsByLibrary.size();
+    }
+
+    private int getIntProperty(String name, int defaultValue) {
+        if (configuration.getProperty(name) instanceof Integer value) {
+            return value;
+        }
+        return defaultValue;
+    }
+}
@@ -8,12 +8,8 @@ import java.util.Objects;
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
-import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
@@ -24,7 +20,11 @@ import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,51 +33,96 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    /**
+     * Clients may keep responses, but have to check whether they are still current (using the entity tag)
+     */
+    private static final CacheControl REVALIDATE = createRevalidateCacheControl();
+
     @Inject
     CliPreferences preferences;
 
     @Inject
     Gson gson;
 
+    @Inject
+    LibrarySnapshotCache librarySnapshotCache;
+
+    private static CacheControl createRevalidateCacheControl() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        return cacheControl;
+    }
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id, @Context Request request) {
+        LibrarySnapshotCache.Representation representation = getSnapshot(id).getRepresentation(MediaType.APPLICATION_JSON, parserResult -> {
+            BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+            List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
+                                                 .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
+                                                 .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
+                                                 .toList();
+            return gson.toJson(list);
+        });
+        return toResponse(request, representation);
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+    public Response getClsItemJson(@PathParam("id") String id, @Context Request request) {
+        LibrarySnapshotCache.Representation representation = getSnapshot(id).getRepresentation(JabrefMediaType.JSON_CSL_ITEM, parserResult -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
+            return jabRefItemDataProvider.toJson();
+        });
+        return toResponse(request, representation);
     }
 
-    private ParserResult getParserResult(String id) {
+    /**
+     * Single entries, pages of entries and search results, see {@link EntriesResource}
+     */
+    @Path("entries")
+    public EntriesResource getEntries(@PathParam("id") String id) {
+        return new EntriesResource(getSnapshot(id), preferences, gson, Injector.instantiateModelOrService(BibEntryTypesManager.class));
+    }
+
+    private LibrarySnapshotCache.LibrarySnapshot getSnapshot(String id) {
         java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
         try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+            return librarySnapshotCache.getSnapshot(library, preferences.getImportFormatPreferences());
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
         }
-        return parserResult;
+    }
+
+    /**
+     * Answers with "304 Not Modified" if the client already has the given representation
+     */
+    private static Response toResponse(Request request, LibrarySnapshotCache.Representation representation) {
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(representation.entityTag());
+        if (notModified != null) {
+            return notModified.cacheControl(REVALIDATE).build();
+        }
+        return Response.ok(representation.body())
+                       .tag(representation.entityTag())
+                       .cacheControl(REVALIDATE)
+                       .build();
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
         java.nio.file.Path library = getLibraryPath(id);
         String libraryAsString;
+        EntityTag entityTag;
         try {
+            // The file is sent as is, thus its attributes identify the response
+            entityTag = LibrarySnapshotCache.getEntityTag(library, JabrefMediaType.BIBTEX);
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+            if (notModified != null) {
+                return notModified.cacheControl(REVALIDATE).build();
+            }
             libraryAsString = Files.readString(library);
         } catch (IOException e) {
             LOGGER.error("Could not read library {}", library, e);
@@ -85,14 +130,13 @@ public class LibraryResource {
         }
         return Response.ok()
                 .entity(libraryAsString)
+                .tag(entityTag)
+                .cacheControl(REVALIDATE)
                 .build();
     }
 
     private java.nio.file.Path getLibraryPath(String id) {
-        return preferences.getLastFilesOpenedPreferences().getLastFilesOpened()
-                          .stream()
-                          .filter(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id))
-                          .findAny()
-                          .orElseThrow(NotFoundException::new);
+        return librarySnapshotCache.getLibraryPath(preferences.getLastFilesOpenedPreferences().getLastFilesOpened(), id)
+                                   .orElseThrow(NotFoundException::new);
     }
 }
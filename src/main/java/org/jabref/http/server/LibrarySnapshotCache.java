@@ -0,0 +1,285 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.airhacks.afterburner.injection.Injector;
+import jakarta.ws.rs.core.EntityTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the parsed libraries served by the http server. A library is only parsed again if its file changed, i.e., if
+ * its modification time or size differs or the file update monitor reported a change. The responses computed from a
+ * parsed library are kept as well and served with an {@link EntityTag}, so that polling clients receive
+ * "304 Not Modified" as long as the library does not change.
+ */
+public class LibrarySnapshotCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibrarySnapshotCache.class);
+
+    /**
+     * A response body together with the entity tag identifying it
+     */
+    public record Representation(String body, EntityTag entityTag) {
+    }
+
+    /**
+     * The state of a library file at a point in time: its parsed content and the responses and search index computed
+     * from it
+     */
+    public static class LibrarySnapshot {
+        private final ParserResult parserResult;
+        private final FileTime lastModified;
+        private final long size;
+        private final Map<String, Representation> representations = new ConcurrentHashMap<>();
+
+        /**
+         * Guarded by {@code this}
+         */
+        private Map<String, BibEntry> entriesByCitationKey;
+
+        /**
+         * Building the index takes long for large libraries. A lock of its own lets other requests for the snapshot
+         * proceed meanwhile.
+         */
+        private final Object searchIndexLock = new Object();
+
+        /**
+         * Guarded by {@link #searchIndexLock}
+         */
+        private BibFieldsIndexer bibFieldsIndexer;
+        private BibFieldsSearcher bibFieldsSearcher;
+
+        private volatile boolean closed;
+
+        private LibrarySnapshot(ParserResult parserResult, FileTime lastModified, long size) {
+            this.parserResult = parserResult;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        public ParserResult getParserResult() {
+            return parserResult;
+        }
+
+        /**
+         * Returns the response of the given type, which is computed only once per snapshot.
+         *
+         * @param type   identifies the response, e.g., by its media type
+         * @param toBody computes the response body from the parsed library
+         */
+        public Representation getRepresentation(String type, Function<ParserResult, String> toBody) {
+            return representations.computeIfAbsent(type, key -> new Representation(toBody.apply(parserResult), getEntityTag(lastModified, size, type)));
+        }
+
+        /**
+         * Identifies the state of the library file this snapshot was taken from
+         */
+        public String getVersion() {
+            return Long.toHexString(lastModified.toMillis()) + "-" + Long.toHexString(size);
+        }
+
+        /**
+         * Returns the first entry having the given citation key
+         */
+        public synchronized Optional<BibEntry> getEntryByCitationKey(String citationKey) {
+            if (entriesByCitationKey == null) {
+                entriesByCitationKey = new HashMap<>();
+                for (BibEntry entry : parserResult.getDatabase().getEntries()) {
+                    entry.getCitationKey().ifPresent(key -> entriesByCitationKey.putIfAbsent(key, entry));
+                }
+            }
+            return Optional.ofNullable(entriesByCitationKey.get(citationKey));
+        }
+
+        /**
+         * Returns the entries matching the given query in the order they appear in the library. The search index is
+         * built on the first search and kept as long as the snapshot is current.
+         * <p>
+         * Only the fields of the entries are searched. The full-text index of the linked files is stored next to the
+         * library and is maintained by the gui, thus it is neither opened nor updated here.
+         *
+         * @return the matching entries, empty if the search index is not available
+         * @throws IllegalStateException if the library changed during the search
+         */
+        public Optional<List<BibEntry>> search(SearchQuery searchQuery, CliPreferences preferences) {
+            synchronized (searchIndexLock) {
+                if (closed) {
+                    throw new IllegalStateException("Library changed during the search");
+                }
+                if (bibFieldsSearcher == null) {
+                    Connection connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
+                    if (connection == null) {
+                        return Optional.empty();
+                    }
+                    // The indexer drops its table and closes the connection when the snapshot is closed
+                    bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), parserResult.getDatabaseContext(), connection);
+                    bibFieldsIndexer.updateOnStart(BackgroundTask.wrap(() -> {
+                    }));
+                    bibFieldsSearcher = new BibFieldsSearcher(connection, bibFieldsIndexer.getTable());
+                }
+                Set<String> matchedEntries = bibFieldsSearcher.search(searchQuery).getMatchedEntries();
+                return Optional.of(parserResult.getDatabase().getEntries().stream()
+                                               .filter(entry -> matchedEntries.contains(entry.getId()))
+                                               .toList());
+            }
+        }
+
+        /**
+         * Marks the snapshot as outdated. The search index is dropped in the background, because a search might still
+         * be building it.
+         */
+        private void close() {
+            closed = true;
+            HeadlessExecutorService.INSTANCE.execute(() -> {
+                synchronized (searchIndexLock) {
+                    if (bibFieldsIndexer != null) {
+                        bibFieldsIndexer.close();
+                        bibFieldsIndexer = null;
+                        bibFieldsSearcher = null;
+                    }
+                }
+            });
+        }
+
+        private boolean isUpToDate(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && (size == attributes.size());
+        }
+    }
+
+    private record LibraryIds(List<Path> libraries, Map<String, Path> pathById) {
+    }
+
+    private final FileUpdateMonitor fileUpdateMonitor;
+    private final Map<Path, LibrarySnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<Path> monitoredLibraries = ConcurrentHashMap.newKeySet();
+    private volatile LibraryIds libraryIds = new LibraryIds(List.of(), Map.of());
+
+    /**
+     * @param fileUpdateMonitor reports changes of the libraries, so that their snapshots are dropped right away
+     */
+    public LibrarySnapshotCache(FileUpdateMonitor fileUpdateMonitor) {
+        this.fileUpdateMonitor = fileUpdateMonitor;
+    }
+
+    /**
+     * Returns the id of the given library as used in the urls of the http server
+     */
+    public static String getLibraryId(Path library) {
+        return library.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(library);
+    }
+
+    /**
+     * Returns the library with the given id. The ids are only computed again if the given libraries changed.
+     */
+    public Optional<Path> getLibraryPath(List<Path> libraries, String id) {
+        LibraryIds ids = libraryIds;
+        if (!ids.libraries().equals(libraries)) {
+            Map<String, Path> pathById = new LinkedHashMap<>();
+            for (Path library : libraries) {
+                pathById.putIfAbsent(getLibraryId(library), library);
+            }
+            ids = new LibraryIds(List.copyOf(libraries), pathById);
+            libraryIds = ids;
+        }
+        return Optional.ofNullable(ids.pathById().get(id));
+    }
+
+    /**
+     * Returns the entity tag of the given library file in its current state
+     *
+     * @param type identifies the response, e.g., by its media type
+     */
+    public static EntityTag getEntityTag(Path library, String type) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+        return getEntityTag(attributes.lastModifiedTime(), attributes.size(), type);
+    }
+
+    private static EntityTag getEntityTag(FileTime lastModified, long size, String type) {
+        return new EntityTag(Long.toHexString(lastModified.toMillis()) + "-" + Long.toHexString(size) + "-" + Integer.toHexString(type.hashCode()));
+    }
+
+    /**
+     * Returns the snapshot of the current state of the given library. Concurrent requests for a changed library wait
+     * for a single parse.
+     */
+    public LibrarySnapshot getSnapshot(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+        LibrarySnapshot snapshot = snapshots.get(library);
+        if ((snapshot != null) && snapshot.isUpToDate(attributes)) {
+            return snapshot;
+        }
+
+        monitor(library);
+        List<LibrarySnapshot> replaced = new ArrayList<>(1);
+        try {
+            return snapshots.compute(library, (path, cached) -> {
+                if ((cached != null) && cached.isUpToDate(attributes)) {
+                    return cached;
+                }
+                if (cached != null) {
+                    replaced.add(cached);
+                }
+                LOGGER.debug("Parsing library {}", path);
+                try {
+                    // Attributes are read before parsing: a change during parsing leads to parsing again on the next request
+                    ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(path);
+                    return new LibrarySnapshot(parserResult, attributes.lastModifiedTime(), attributes.size());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            replaced.forEach(LibrarySnapshot::close);
+        }
+    }
+
+    private void monitor(Path library) {
+        if (!fileUpdateMonitor.isActive() || !monitoredLibraries.add(library)) {
+            return;
+        }
+        try {
+            fileUpdateMonitor.addListenerForFile(library, () -> {
+                LibrarySnapshot removed = snapshots.remove(library);
+                if (removed != null) {
+                    removed.close();
+                }
+            });
+        } catch (IOException e) {
+            // The modification time and size are still checked on every request
+            LOGGER.debug("Could not monitor library {}", library, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.jabref.http.server;
+
+import org.jabref.logic.util.DefaultFileUpdateMonitor;
+import org.jabref.logic.util.HeadlessExecutorService;
+
+import jakarta.inject.Singleton;
+import org.glassfish.hk2.api.Factory;
+
+public class LibrarySnapshotCacheFactory implements Factory<LibrarySnapshotCache> {
+
+    private final DefaultFileUpdateMonitor fileUpdateMonitor;
+    private final LibrarySnapshotCache librarySnapshotCache;
+
+    public LibrarySnapshotCacheFactory() {
+        fileUpdateMonitor = new DefaultFileUpdateMonitor();
+        HeadlessExecutorService.INSTANCE.executeInterruptableTask(fileUpdateMonitor, "FileUpdateMonitor");
+        librarySnapshotCache = new LibrarySnapshotCache(fileUpdateMonitor);
+    }
+
+    /**
+     * Singleton, so that {@link #dispose(LibrarySnapshotCache)} is called once when the server shuts down
+     */
+    @Override
+    @Singleton
+    public LibrarySnapshotCache provide() {
+        return librarySnapshotCache;
+    }
+
+    @Override
+    public void dispose(LibrarySnapshotCache instance) {
+        // Ends the thread started in the constructor
+        fileUpdateMonitor.shutdown();
+    }
+}
@@ -1,19 +1,28 @@
 package org.jabref.http.server;
 
+import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.net.ssl.SSLContext;
 
 import org.jabref.architecture.AllowedToUseStandardStreams;
 import org.jabref.logic.os.OS;
 
-import jakarta.ws.rs.SeBootstrap;
 import net.harawata.appdirs.AppDirsFactory;
+import org.glassfish.grizzly.Transport;
+import org.glassfish.grizzly.TransportProbe;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
+import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.bridge.SLF4JBridgeHandler;
@@ -22,28 +31,54 @@ import org.slf4j.bridge.SLF4JBridgeHandler;
 public class Server {
     private static final Logger LOGGER = LoggerFactory.getLogger(Server.class);
 
-    private static SeBootstrap.Instance serverInstance;
+    private static final URI BASE_URI = URI.create("https://localhost:6051/");
+
+    private static final String VIRTUAL_THREADS_OPTION = "--virtual-threads";
+    private static final String MAX_CONCURRENT_REQUESTS_OPTION = "--max-concurrent-requests-per-library=";
+
+    private static HttpServer httpServer;
 
     /**
      * Starts an http server serving the last files opened in JabRef<br>
      * More files can be provided as args.
+     * <p>
+     * Options:
+     * <ul>
+     *     <li>{@value #VIRTUAL_THREADS_OPTION}: handles each request on its own virtual thread instead of a fixed pool
+     *     of worker threads</li>
+     *     <li>{@value #MAX_CONCURRENT_REQUESTS_OPTION}N: processes at most N requests per library at the same time
+     *     (default: {@value LibraryConcurrencyFilter#DEFAULT_MAX_CONCURRENT_REQUESTS_PER_LIBRARY})</li>
+     * </ul>
      */
-    public static void main(final String[] args) throws InterruptedException {
+    public static void main(final String[] args) throws InterruptedException, IOException {
         SLF4JBridgeHandler.removeHandlersForRootLogger();
         SLF4JBridgeHandler.install();
 
+        boolean useVirtualThreads = false;
+        int maxConcurrentRequestsPerLibrary = LibraryConcurrencyFilter.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_LIBRARY;
+        List<String> files = new ArrayList<>();
+        for (String arg : args) {
+            if (VIRTUAL_THREADS_OPTION.equals(arg)) {
+                useVirtualThreads = true;
+            } else if (arg.startsWith(MAX_CONCURRENT_REQUESTS_OPTION)) {
+                maxConcurrentRequestsPerLibrary = parseMaxConcurrentRequests(arg.substring(MAX_CONCURRENT_REQUESTS_OPTION.length()));
+            } else {
+                files.add(arg);
+            }
+        }
+
         final List<Path> lastFilesOpened = List.of(); // JabRefCliPreferences.getInstance().getGuiPreferences().getLastFilesOpened();
 
         // The server serves the last opened files (see org.jabref.http.server.LibraryResource.getLibraryPath)
         // In a testing environment, this might be difficult to handle
         // This is a quick solution. The architectural fine solution would use some http context or other @Inject_ed variables in org.jabref.http.server.LibraryResource
-        if (args.length > 0) {
+        if (!files.isEmpty()) {
             LOGGER.debug("Command line parameters passed");
-            List<Path> filesToAdd = Arrays.stream(args)
-                                          .map(Path::of)
-                                          .filter(Files::exists)
-                                          .filter(path -> !lastFilesOpened.contains(path))
-                                          .toList();
+            List<Path> filesToAdd = files.stream()
+                                         .map(Path::of)
+                                         .filter(Files::exists)
+                                         .filter(path -> !lastFilesOpened.contains(path))
+                                         .toList();
 
             LOGGER.debug("Adding following files to the list of opened libraries: {}", filesToAdd);
 
@@ -64,32 +99,65 @@ public class Server {
 
         LOGGER.debug("Libraries served: {}", lastFilesOpened);
 
-        Server.startServer();
+        Server.startServer(useVirtualThreads, maxConcurrentRequestsPerLibrary);
 
         // Keep the http server running until user kills the process (e.g., presses Ctrl+C)
         Thread.currentThread().join();
     }
 
-    private static void startServer() {
-        SSLContext sslContext = getSslContext();
-        SeBootstrap.Configuration configuration = SeBootstrap.Configuration
-                .builder()
-                .sslContext(sslContext)
-                .protocol("HTTPS")
-                .port(6051)
-                .build();
+    private static int parseMaxConcurrentRequests(String value) {
+        int maxConcurrentRequests;
+        try {
+            maxConcurrentRequests = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(MAX_CONCURRENT_REQUESTS_OPTION + " requires a number, got: " + value, e);
+        }
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException(MAX_CONCURRENT_REQUESTS_OPTION + " requires at least 1, got: " + value);
+        }
+        return maxConcurrentRequests;
+    }
+
+    private static void startServer(boolean useVirtualThreads, int maxConcurrentRequestsPerLibrary) throws IOException {
+        ResourceConfig resourceConfig = ResourceConfig.forApplicationClass(Application.class)
+                                                      .property(LibraryConcurrencyFilter.MAX_CONCURRENT_REQUESTS_PER_LIBRARY, maxConcurrentRequestsPerLibrary);
         LOGGER.debug("Starting server...");
-        SeBootstrap.start(Application.class, configuration).thenAccept(instance -> {
-            LOGGER.debug("Server started.");
-            instance.stopOnShutdown(stopResult ->
-                    LOGGER.debug("Stop result: {} [Native stop result: {}].", stopResult,
-                            stopResult.unwrap(Object.class)));
-            final URI uri = instance.configuration().baseUri();
-            LOGGER.debug("Instance {} running at {} [Native handle: {}].%n", instance, uri,
-                    instance.unwrap(Object.class));
-            LOGGER.debug("Send SIGKILL to shutdown.");
-            serverInstance = instance;
-        });
+        httpServer = createServer(BASE_URI, resourceConfig, getSslContext(), useVirtualThreads);
+        httpServer.start();
+        LOGGER.debug("Server started at {} (virtual threads: {}).", BASE_URI, useVirtualThreads);
+        Runtime.getRuntime().addShutdownHook(new Thread(Server::stopServer));
+        LOGGER.debug("Send SIGKILL to shutdown.");
+    }
+
+    /**
+     * Creates the http server for the given application. The server is not started yet.
+     *
+     * @param sslContext        the SSL context to use, null for plain http
+     * @param useVirtualThreads whether each request is handled on its own virtual thread. Otherwise, Grizzly's fixed
+     *                          pool of worker threads is used, where requests wait while all workers block on I/O.
+     */
+    public static HttpServer createServer(URI uri, ResourceConfig resourceConfig, SSLContext sslContext, boolean useVirtualThreads) {
+        HttpServer server;
+        if (sslContext == null) {
+            server = GrizzlyHttpServerFactory.createHttpServer(uri, resourceConfig, false);
+        } else {
+            server = GrizzlyHttpServerFactory.createHttpServer(uri, resourceConfig, true, new SSLEngineConfigurator(sslContext, false, false, false), false);
+        }
+        if (useVirtualThreads) {
+            // A virtual thread blocked on file I/O or waiting for a library does not block a carrier thread
+            ExecutorService workerThreadPool = Executors.newVirtualThreadPerTaskExecutor();
+            for (NetworkListener listener : server.getListeners()) {
+                listener.getTransport().setWorkerThreadPool(workerThreadPool);
+                // Grizzly only shuts down the worker thread pools it created itself
+                listener.getTransport().getMonitoringConfig().addProbes(new TransportProbe.Adapter() {
+                    @Override
+                    public void onStopEvent(Transport transport) {
+                        workerThreadPool.shutdownNow();
+                    }
+                });
+            }
+        }
+        return server;
     }
 
     private static SSLContext getSslContext() {
@@ -111,6 +179,8 @@ public class Server {
     }
 
     static void stopServer() {
-        serverInstance.stop();
+        if (httpServer != null) {
+            httpServer.shutdownNow();
+        }
     }
 }
@@ -8,8 +8,8 @@ import java.util.Map;
 
 import org.jabref.logic.ai.chatting.chathistory.ChatHistoryStorage;
 import org.jabref.logic.ai.util.ErrorMessage;
-import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.MVStoreBase;
 import org.jabref.logic.util.NotificationService;
 
 import dev.langchain4j.data.message.AiMessage;
@@ -14,8 +14,8 @@ import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.MVStoreBase;
 import org.jabref.logic.util.NotificationService;
 
 import dev.langchain4j.data.document.Metadata;
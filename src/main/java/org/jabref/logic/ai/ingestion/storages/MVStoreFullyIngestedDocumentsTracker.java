@@ -5,8 +5,8 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.jabref.logic.ai.ingestion.FullyIngestedDocumentsTracker;
-import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.MVStoreBase;
 import org.jabref.logic.util.NotificationService;
 
 /**
@@ -6,8 +6,8 @@ import java.util.Optional;
 
 import org.jabref.logic.ai.summarization.SummariesStorage;
 import org.jabref.logic.ai.summarization.Summary;
-import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.MVStoreBase;
 import org.jabref.logic.util.NotificationService;
 
 public class MVStoreSummariesStorage extends MVStoreBase implements SummariesStorage {
@@ -2,6 +2,7 @@ package org.jabref.logic.bibtex;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -26,6 +27,7 @@ import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.Range;
 
@@ -37,9 +39,25 @@ public class BibEntryWriter {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntryWriter.class);
 
     private final Map<Field, Range> fieldPositions = new HashMap<>();
+
+    /**
+     * The required fields followed by the optional fields of an entry type, each sorted by name.
+     * Computed once per entry type, because enriching and sorting is costly when many entries are written.
+     */
+    private final Map<TypeAndMode, TypeFields> typeFieldsCache = new HashMap<>();
     private final BibEntryTypesManager entryTypesManager;
     private final FieldWriter fieldWriter;
 
+    private record TypeAndMode(EntryType type, BibDatabaseMode mode) {
+    }
+
+    /**
+     * @param orderedFields the fields to write first (may contain a field twice if it is both required and optional)
+     * @param fields        the same fields as a set
+     */
+    private record TypeFields(List<Field> orderedFields, Set<Field> fields) {
+    }
+
     public BibEntryWriter(FieldWriter fieldWriter, BibEntryTypesManager entryTypesManager) {
         this.fieldWriter = fieldWriter;
         this.entryTypesManager = entryTypesManager;
@@ -97,42 +115,18 @@ public class BibEntryWriter {
         writeEntryType(entry, out, bibDatabaseMode);
         writeKeyField(entry, out);
 
-        Set<Field> written = new HashSet<>();
-        written.add(InternalField.KEY_FIELD);
         final int indent = getLengthOfLongestFieldName(entry);
 
-        Optional<BibEntryType> type = entryTypesManager.enrich(entry.getType(), bibDatabaseMode);
-        if (type.isPresent()) {
-            // Write required fields first
-            List<Field> requiredFields = type.get()
-                                             .getRequiredFields()
-                                             .stream()
-                                             .map(OrFields::getFields)
-                                             .flatMap(Collection::stream)
-                                             .sorted(Comparator.comparing(Field::getName))
-                                             .toList();
-            for (Field field : requiredFields) {
-                writeField(entry, out, field, indent);
-            }
-            written.addAll(requiredFields);
-
-            // Then optional fields
-            List<Field> optionalFields = type.get()
-                                             .getOptionalFields()
-                                             .stream()
-                                             .map(BibField::field)
-                                             .sorted(Comparator.comparing(Field::getName))
-                                             .toList();
-            for (Field field : optionalFields) {
-                writeField(entry, out, field, indent);
-            }
-            written.addAll(optionalFields);
+        // Write required fields first, then optional fields
+        TypeFields typeFields = typeFieldsCache.computeIfAbsent(new TypeAndMode(entry.getType(), bibDatabaseMode), this::getTypeFields);
+        for (Field field : typeFields.orderedFields()) {
+            writeField(entry, out, field, indent);
         }
 
         // Then write remaining fields in alphabetic order.
         SortedSet<Field> remainingFields = entry.getFields()
                                                 .stream()
-                                                .filter(key -> !written.contains(key))
+                                                .filter(key -> (InternalField.KEY_FIELD != key) && !typeFields.fields().contains(key))
                                                 .collect(Collectors.toCollection(() -> new TreeSet<>(Comparator.comparing(Field::getName))));
         for (Field field : remainingFields) {
             writeField(entry, out, field, indent);
@@ -142,6 +136,31 @@ public class BibEntryWriter {
         out.writeLine("}");
     }
 
+    private TypeFields getTypeFields(TypeAndMode typeAndMode) {
+        Optional<BibEntryType> type = entryTypesManager.enrich(typeAndMode.type(), typeAndMode.mode());
+        if (type.isEmpty()) {
+            return new TypeFields(List.of(), Set.of());
+        }
+
+        List<Field> requiredFields = type.get()
+                                         .getRequiredFields()
+                                         .stream()
+                                         .map(OrFields::getFields)
+                                         .flatMap(Collection::stream)
+                                         .sorted(Comparator.comparing(Field::getName))
+                                         .toList();
+        List<Field> optionalFields = type.get()
+                                         .getOptionalFields()
+                                         .stream()
+                                         .map(BibField::field)
+                                         .sorted(Comparator.comparing(Field::getName))
+                                         .toList();
+        List<Field> orderedFields = new ArrayList<>(requiredFields.size() + optionalFields.size());
+        orderedFields.addAll(requiredFields);
+        orderedFields.addAll(optionalFields);
+        return new TypeFields(orderedFields, new HashSet<>(orderedFields));
+    }
+
     private void writeEntryType(BibEntry entry, BibWriter out, BibDatabaseMode bibDatabaseMode) throws IOException {
         int start = out.getCurrentPosition();
         TypedBibEntry typedEntry = new TypedBibEntry(entry, bibDatabaseMode);
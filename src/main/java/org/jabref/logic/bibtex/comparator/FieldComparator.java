@@ -1,11 +1,14 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
@@ -18,17 +21,44 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * A comparator for BibEntry fields
+ * <p>
+ * The value of an entry is normalized (e.g., author names prepared for alphabetization, years parsed, collation key
+ * computed) once and cached until the entry changes. Thus, sorting compares precomputed keys only.
  */
 public class FieldComparator implements Comparator<BibEntry> {
 
     private static final Collator COLLATOR = getCollator();
 
+    /**
+     * Sort keys of entries, computed once per entry and fields. A key is outdated as soon as the entry changes.
+     * Weak keys use identity, thus equal entries do not share keys.
+     */
+    private static final Cache<BibEntry, Map<OrFields, CachedSortKey>> SORT_KEYS = CacheBuilder.newBuilder()
+                                                                                               .weakKeys()
+                                                                                               .build();
+
     enum FieldType {
         NAME, TYPE, YEAR, MONTH, OTHER
     }
 
+    /**
+     * The normalized value of an entry compared by this comparator. Descending order is applied when comparing.
+     *
+     * @param number   the year, the month, or the value of a numeric field
+     * @param isNumber whether number is set
+     * @param text     the collation key of the lower-cased value, null for years and months
+     */
+    private record SortKey(int number, boolean isNumber, CollationKey text) {
+    }
+
+    private record CachedSortKey(SortKey sortKey, long modificationCount) {
+    }
+
     private final OrFields fields;
     private final FieldType fieldType;
     private final boolean isNumeric;
@@ -84,83 +114,33 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     @Override
     public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
-
-        if (fieldType == FieldType.TYPE) {
-            // Sort by type.
-            f1 = e1.getType().getDisplayName();
-            f2 = e2.getType().getDisplayName();
-        } else {
-            f1 = getFieldValue(e1);
-            f2 = getFieldValue(e2);
-        }
+        SortKey key1 = getSortKey(e1);
+        SortKey key2 = getSortKey(e2);
 
         // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
+        if ((key1 == null) && (key2 == null)) {
             return 0;
-        } else if (f1 == null) {
+        } else if (key1 == null) {
             return -multiplier;
-        } else if (f2 == null) {
+        } else if (key2 == null) {
             return +multiplier;
         }
 
-        // Now we know that both f1 and f2 are != null
-        if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
-        } else if (fieldType == FieldType.YEAR) {
-            int f1year;
-            try {
-                f1year = StringUtil.intValueOf(f1);
-            } catch (NumberFormatException ex) {
-                f1year = 0;
-            }
-            int f2year;
-            try {
-                f2year = StringUtil.intValueOf(f2);
-            } catch (NumberFormatException ex) {
-                f2year = 0;
-            }
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
-        } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+        if ((fieldType == FieldType.YEAR) || (fieldType == FieldType.MONTH)) {
+            return Integer.compare(key1.number(), key2.number()) * multiplier;
         }
 
         if (isNumeric) {
             // Cannot use {@link org.jabref.logic.util.comparator.NumericFieldComparator}, because
             //   we need the "Else both are strings" branch and
             //   unparseable strings are sorted differently.
-            int i1;
-            boolean i1present;
-            try {
-                i1 = StringUtil.intValueOf(f1);
-                i1present = true;
-            } catch (NumberFormatException ex) {
-                i1 = 0;
-                i1present = false;
-            }
-            int i2;
-            boolean i2present;
-            try {
-                i2 = StringUtil.intValueOf(f2);
-                i2present = true;
-            } catch (NumberFormatException ex) {
-                i2 = 0;
-                i2present = false;
-            }
-
-            if (i1present && i2present) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return Integer.compare(i1, i2) * multiplier;
-            } else if (i1present) {
+            if (key1.isNumber() && key2.isNumber()) {
+                return Integer.compare(key1.number(), key2.number()) * multiplier;
+            } else if (key1.isNumber()) {
                 // The first one was parsable, but not the second one.
                 // This means we consider one < two
                 return -1 * multiplier;
-            } else if (i2present) {
+            } else if (key2.isNumber()) {
                 // The second one was parsable, but not the first one.
                 // This means we consider one > two
                 return multiplier;
@@ -168,8 +148,58 @@ public class FieldComparator implements Comparator<BibEntry> {
             // Else none of them were parseable, and we can fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return key1.text().compareTo(key2.text()) * multiplier;
+    }
+
+    /**
+     * Returns the sort key of the given entry, null if the entry has none of the fields
+     */
+    private SortKey getSortKey(BibEntry entry) {
+        Map<OrFields, CachedSortKey> entryKeys = SORT_KEYS.asMap().computeIfAbsent(entry, key -> new ConcurrentHashMap<>());
+        long modificationCount = entry.getModificationCount();
+        CachedSortKey cachedKey = entryKeys.get(fields);
+        if ((cachedKey != null) && (cachedKey.modificationCount() == modificationCount)) {
+            return cachedKey.sortKey();
+        }
+        SortKey sortKey = computeSortKey(entry);
+        entryKeys.put(fields, new CachedSortKey(sortKey, modificationCount));
+        return sortKey;
+    }
+
+    private SortKey computeSortKey(BibEntry entry) {
+        String value;
+        if (fieldType == FieldType.TYPE) {
+            value = entry.getType().getDisplayName();
+        } else {
+            value = getFieldValue(entry);
+        }
+        if (value == null) {
+            return null;
+        }
+
+        if (fieldType == FieldType.NAME) {
+            value = AuthorList.fixAuthorForAlphabetization(value);
+        } else if (fieldType == FieldType.YEAR) {
+            return new SortKey(parseInt(value).orElse(0), true, null);
+        } else if (fieldType == FieldType.MONTH) {
+            return new SortKey(Month.parse(value).map(Month::getNumber).orElse(-1), true, null);
+        }
+
+        CollationKey text = COLLATOR.getCollationKey(value.toLowerCase(Locale.ENGLISH));
+        if (isNumeric) {
+            Optional<Integer> number = parseInt(value);
+            if (number.isPresent()) {
+                return new SortKey(number.get(), true, text);
+            }
+        }
+        return new SortKey(0, false, text);
+    }
+
+    private static Optional<Integer> parseInt(String value) {
+        try {
+            return Optional.of(StringUtil.intValueOf(value));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
     }
 }
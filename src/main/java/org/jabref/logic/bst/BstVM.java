@@ -5,7 +5,9 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
@@ -29,6 +31,11 @@ public class BstVM {
     protected final ParseTree tree;
     protected BstVMContext latestContext; // for testing
 
+    /**
+     * Function bodies compiled by {@link BstVMVisitor}. Kept here to reuse them across renders.
+     */
+    private final Map<BstParser.StackContext, BstVMVisitor.CompiledStack> compiledStacks = new ConcurrentHashMap<>();
+
     private Path path = null;
 
     public BstVM(Path path) throws RecognitionException, IOException {
@@ -79,7 +86,7 @@ public class BstVM {
         bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
         bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
 
-        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer);
+        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer, compiledStacks);
         bstVMVisitor.visit(tree);
 
         latestContext = bstVMContext;
@@ -1,10 +1,13 @@
 package org.jabref.logic.bst;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.bibtex.FieldWriter;
@@ -26,14 +29,52 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
     private final BstVMContext bstVMContext;
     private final StringBuilder bbl;
 
+    /**
+     * Function bodies lowered to a flat list of operations. The parse tree is immutable, thus the compiled bodies can be shared across renders of the same {@link BstVM}.
+     */
+    private final Map<BstParser.StackContext, CompiledStack> compiledStacks;
+
+    /**
+     * Caches to which kind of variable or function a name resolves. Entry-level variables are declared for all entries at once, thus the result is the same for every entry.
+     * Invalidated whenever a command declares new names.
+     */
+    private final Map<String, Resolution> entryResolutions = new HashMap<>();
+    private final Map<String, Resolution> globalResolutions = new HashMap<>();
+
     private BstEntry selectedBstEntry = null;
 
     public record Identifier(String name) {
     }
 
+    private enum ResolutionKind {
+        ENTRY_FIELD,
+        ENTRY_STRING,
+        ENTRY_INTEGER,
+        GLOBAL_STRING,
+        GLOBAL_INTEGER,
+        FUNCTION
+    }
+
+    private record Resolution(ResolutionKind kind, BstFunctions.BstFunction function) {
+    }
+
+    /**
+     * A single item of a function body. Either a literal to be pushed or a function call.
+     */
+    record Operation(Object literal, String functionName, ParserRuleContext ctx) {
+    }
+
+    record CompiledStack(Operation[] operations) {
+    }
+
     public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl) {
+        this(bstVMContext, bbl, new ConcurrentHashMap<>());
+    }
+
+    BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl, Map<BstParser.StackContext, CompiledStack> compiledStacks) {
         this.bstVMContext = bstVMContext;
         this.bbl = bbl;
+        this.compiledStacks = compiledStacks;
     }
 
     @Override
@@ -45,6 +86,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         for (BstParser.IdentifierContext identifierContext : ctx.ids.identifier()) {
             bstVMContext.strings().put(identifierContext.getText(), null);
         }
+        invalidateResolutions();
         return BstVM.TRUE;
     }
 
@@ -53,6 +95,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         for (BstParser.IdentifierContext identifierContext : ctx.ids.identifier()) {
             bstVMContext.integers().put(identifierContext.getText(), 0);
         }
+        invalidateResolutions();
         return BstVM.TRUE;
     }
 
@@ -62,6 +105,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         LOGGER.trace("Function: {}", name);
         bstVMContext.functions().put(name,
                 (visitor, functionContext) -> visitor.visit(ctx.function));
+        invalidateResolutions();
         return BstVM.TRUE;
     }
 
@@ -70,15 +114,23 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         String replacement = ctx.repl.getText().substring(1, ctx.repl.getText().length() - 1);
         bstVMContext.functions().put(ctx.id.getText(),
                 (visitor, functionContext) -> bstVMContext.stack().push(replacement));
+        invalidateResolutions();
         return BstVM.TRUE;
     }
 
+    private void invalidateResolutions() {
+        entryResolutions.clear();
+        globalResolutions.clear();
+    }
+
     @Override
     public Integer visitReadCommand(BstParser.ReadCommandContext ctx) {
         FieldWriter fieldWriter = new FieldWriter(new FieldPreferences(true, List.of(StandardField.MONTH), Collections.emptyList()));
+        // All entries declare the same fields, thus parse each field name only once
+        Map<String, Field> parsedFields = new HashMap<>();
         for (BstEntry e : bstVMContext.entries()) {
             for (Map.Entry<String, String> mEntry : e.fields.entrySet()) {
-                Field field = FieldFactory.parseField(mEntry.getKey());
+                Field field = parsedFields.computeIfAbsent(mEntry.getKey(), FieldFactory::parseField);
                 String fieldValue = e.entry.getResolvedFieldOrAlias(field, bstVMContext.bibDatabase())
                                            .map(content -> {
                                                try {
@@ -111,6 +163,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
             }
         }
 
+        invalidateResolutions();
         return BstVM.TRUE;
     }
 
@@ -179,6 +232,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
             entry.localStrings.put("sort.key$", null);
         }
 
+        invalidateResolutions();
         return BstVM.TRUE;
     }
 
@@ -198,45 +252,51 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     protected void resolveIdentifier(String name, ParserRuleContext ctx) {
         LOGGER.trace("Resolving name {} at resolveIdentifier", name);
-        LOGGER.trace("Stack: {}", bstVMContext.stack());
+        Map<String, Resolution> resolutions = selectedBstEntry == null ? globalResolutions : entryResolutions;
+        Resolution resolution = resolutions.get(name);
+        if (resolution == null) {
+            resolution = resolve(name);
+            resolutions.put(name, resolution);
+        }
+
+        switch (resolution.kind()) {
+            case ENTRY_FIELD ->
+                    bstVMContext.stack().push(selectedBstEntry.fields.get(name));
+            case ENTRY_STRING ->
+                    bstVMContext.stack().push(selectedBstEntry.localStrings.get(name));
+            case ENTRY_INTEGER ->
+                    bstVMContext.stack().push(selectedBstEntry.localIntegers.get(name));
+            case GLOBAL_STRING ->
+                    bstVMContext.stack().push(bstVMContext.strings().get(name));
+            case GLOBAL_INTEGER ->
+                    bstVMContext.stack().push(bstVMContext.integers().get(name));
+            case FUNCTION ->
+                    resolution.function().execute(this, ctx, selectedBstEntry);
+        }
+    }
+
+    private Resolution resolve(String name) {
         if (selectedBstEntry != null) {
-            LOGGER.trace("selectedBstEntry is available");
             if (selectedBstEntry.fields.containsKey(name)) {
-                String value = selectedBstEntry.fields.get(name);
-                LOGGER.trace("entry field {}={}", name, value);
-                bstVMContext.stack().push(value);
-                return;
+                return new Resolution(ResolutionKind.ENTRY_FIELD, null);
             }
             if (selectedBstEntry.localStrings.containsKey(name)) {
-                String value = selectedBstEntry.localStrings.get(name);
-                LOGGER.trace("entry local string {}={}", name, value);
-                bstVMContext.stack().push(value);
-                return;
+                return new Resolution(ResolutionKind.ENTRY_STRING, null);
             }
             if (selectedBstEntry.localIntegers.containsKey(name)) {
-                Integer value = selectedBstEntry.localIntegers.get(name);
-                LOGGER.trace("entry local integer {}={}", name, value);
-                bstVMContext.stack().push(value);
-                return;
+                return new Resolution(ResolutionKind.ENTRY_INTEGER, null);
             }
         }
 
         if (bstVMContext.strings().containsKey(name)) {
-            String value = bstVMContext.strings().get(name);
-            LOGGER.trace("global string {}={}", name, value);
-            bstVMContext.stack().push(value);
-            return;
+            return new Resolution(ResolutionKind.GLOBAL_STRING, null);
         }
         if (bstVMContext.integers().containsKey(name)) {
-            Integer value = bstVMContext.integers().get(name);
-            LOGGER.trace("global integer {}={}", name, value);
-            bstVMContext.stack().push(value);
-            return;
+            return new Resolution(ResolutionKind.GLOBAL_INTEGER, null);
         }
-        if (bstVMContext.functions().containsKey(name)) {
-            LOGGER.trace("function {}", name);
-            bstVMContext.functions().get(name).execute(this, ctx, selectedBstEntry);
-            return;
+        BstFunctions.BstFunction function = bstVMContext.functions().get(name);
+        if (function != null) {
+            return new Resolution(ResolutionKind.FUNCTION, function);
         }
 
         LOGGER.warn("No matching identifier found: {}", name);
@@ -251,33 +311,52 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         return BstVM.TRUE;
     }
 
+    /**
+     * Executes a function body. On first use, the body is lowered into a flat list of operations, so that the parse tree does not need to be walked again.
+     */
     @Override
-    public Integer visitStackitem(BstParser.StackitemContext ctx) {
-        for (ParseTree childNode : ctx.children) {
-            try {
+    public Integer visitStack(BstParser.StackContext ctx) {
+        CompiledStack compiledStack = compiledStacks.computeIfAbsent(ctx, BstVMVisitor::compile);
+        try {
+            for (Operation operation : compiledStack.operations()) {
+                if (operation.functionName() != null) {
+                    resolveIdentifier(operation.functionName(), operation.ctx());
+                } else {
+                    bstVMContext.stack().push(operation.literal());
+                }
+            }
+        } catch (BstVMException e) {
+            bstVMContext.path().ifPresentOrElse(
+                    path -> LOGGER.error("{} ({})", e.getMessage(), path, e),
+                    () -> LOGGER.error("", e));
+            throw e;
+        }
+        return BstVM.TRUE;
+    }
+
+    private static CompiledStack compile(BstParser.StackContext ctx) {
+        List<Operation> operations = new ArrayList<>();
+        for (BstParser.StackitemContext stackitem : ctx.stackitem()) {
+            for (ParseTree childNode : stackitem.children) {
                 if (childNode instanceof TerminalNode token) {
                     switch (token.getSymbol().getType()) {
                         case BstParser.STRING -> {
                             String s = token.getText();
-                            bstVMContext.stack().push(s.substring(1, s.length() - 1));
+                            operations.add(new Operation(s.substring(1, s.length() - 1), null, null));
                         }
                         case BstParser.INTEGER ->
-                                bstVMContext.stack().push(Integer.parseInt(token.getText().substring(1)));
+                                operations.add(new Operation(Integer.parseInt(token.getText().substring(1)), null, null));
                         case BstParser.QUOTED ->
-                                bstVMContext.stack().push(new Identifier(token.getText().substring(1)));
+                                operations.add(new Operation(new Identifier(token.getText().substring(1)), null, null));
                     }
                 } else if (childNode instanceof BstParser.StackContext) {
-                    bstVMContext.stack().push(childNode);
-                } else {
-                    this.visit(childNode);
+                    // Nested stacks are pushed as they are (e.g., as arguments of if$ and while$) and compiled on their first execution
+                    operations.add(new Operation(childNode, null, null));
+                } else if (childNode instanceof BstParser.BstFunctionContext bstFunction) {
+                    operations.add(new Operation(null, bstFunction.getChild(0).getText(), bstFunction));
                 }
-            } catch (BstVMException e) {
-                bstVMContext.path().ifPresentOrElse(
-                        path -> LOGGER.error("{} ({})", e.getMessage(), path, e),
-                        () -> LOGGER.error("", e));
-                throw e;
             }
         }
-        return BstVM.TRUE;
+        return new CompiledStack(operations.toArray(Operation[]::new));
     }
 }
@@ -0,0 +1,170 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.TimerTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+import org.jabref.logic.util.HeadlessExecutorService;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of warmed-up {@link CSLAdapter}s.
+ * <p>
+ * Creating a CSL engine is expensive and a single engine is not thread-safe. This pool allows up to {@code maxSize}
+ * renderings to run concurrently, each on its own {@link CSLAdapter}. Returned adapters are kept for reuse and handed
+ * out preferably to callers using the same style and output format, so that the engine does not need to be
+ * re-initialized. Adapters that were not used for longer than the idle timeout are dropped to free their memory. For
+ * this, a cleanup is scheduled as long as idle adapters are kept, so that also a pool which is not used anymore
+ * releases its engines.
+ */
+public class CSLAdapterPool {
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CSLAdapterPool.class);
+
+    @FunctionalInterface
+    public interface CSLAdapterTask<T> {
+        T execute(CSLAdapter adapter) throws IOException;
+    }
+
+    private record PoolKey(String style, CitationStyleOutputFormat outputFormat) {
+    }
+
+    private record IdleAdapter(CSLAdapter adapter, PoolKey key, long idleSinceNanos) {
+    }
+
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final BiConsumer<TimerTask, Long> cleanupScheduler;
+    private final Semaphore permits;
+
+    /**
+     * Most recently returned adapter first. Guarded by {@code this}.
+     */
+    private final Deque<IdleAdapter> idleAdapters = new ArrayDeque<>();
+
+    /**
+     * Guarded by {@code this}.
+     */
+    private boolean cleanupScheduled;
+
+    public CSLAdapterPool(int maxSize) {
+        this(maxSize, DEFAULT_IDLE_TIMEOUT, System::nanoTime, HeadlessExecutorService.INSTANCE::submit);
+    }
+
+    /**
+     * @param cleanupScheduler runs the given task after the given delay in milliseconds
+     */
+    @VisibleForTesting
+    CSLAdapterPool(int maxSize, Duration idleTimeout, LongSupplier nanoClock, BiConsumer<TimerTask, Long> cleanupScheduler) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The pool needs to hold at least one adapter");
+        }
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.cleanupScheduler = cleanupScheduler;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Runs the given task with an adapter exclusively checked out for the given style and output format.
+     * Blocks if all adapters are in use.
+     * <p>
+     * If the task fails, the adapter is discarded, because the state of the underlying engine is unknown.
+     */
+    public <T> T execute(String style, CitationStyleOutputFormat outputFormat, CSLAdapterTask<T> task) throws IOException {
+        PoolKey key = new PoolKey(style, outputFormat);
+        permits.acquireUninterruptibly();
+        try {
+            CSLAdapter adapter = checkout(key);
+            T result = task.execute(adapter);
+            checkin(key, adapter);
+            return result;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private synchronized CSLAdapter checkout(PoolKey key) {
+        evictIdleAdapters();
+
+        Iterator<IdleAdapter> iterator = idleAdapters.iterator();
+        while (iterator.hasNext()) {
+            IdleAdapter idleAdapter = iterator.next();
+            if (idleAdapter.key().equals(key)) {
+                iterator.remove();
+                return idleAdapter.adapter();
+            }
+        }
+
+        // No warm adapter for this style: Reuse the least recently used one (it re-initializes itself for the new style)
+        IdleAdapter leastRecentlyUsed = idleAdapters.pollLast();
+        if (leastRecentlyUsed != null) {
+            return leastRecentlyUsed.adapter();
+        }
+        return new CSLAdapter();
+    }
+
+    private synchronized void checkin(PoolKey key, CSLAdapter adapter) {
+        idleAdapters.addFirst(new IdleAdapter(adapter, key, nanoClock.getAsLong()));
+        evictIdleAdapters();
+        scheduleCleanup();
+    }
+
+    private synchronized void cleanup() {
+        cleanupScheduled = false;
+        evictIdleAdapters();
+        scheduleCleanup();
+    }
+
+    /**
+     * Schedules the next cleanup for the time the least recently used adapter becomes evictable
+     */
+    private void scheduleCleanup() {
+        if (cleanupScheduled || idleAdapters.isEmpty()) {
+            return;
+        }
+        long idleNanos = nanoClock.getAsLong() - idleAdapters.peekLast().idleSinceNanos();
+        long delayMillis = Duration.ofNanos(Math.max(0, idleTimeoutNanos - idleNanos)).toMillis() + 1;
+        try {
+            cleanupScheduler.accept(new TimerTask() {
+                @Override
+                public void run() {
+                    cleanup();
+                }
+            }, delayMillis);
+            cleanupScheduled = true;
+        } catch (IllegalStateException e) {
+            // The timer is already cancelled during shutdown
+            LOGGER.debug("Could not schedule the cleanup of idle CSL adapters", e);
+        }
+    }
+
+    private void evictIdleAdapters() {
+        long now = nanoClock.getAsLong();
+        while (!idleAdapters.isEmpty() && ((now - idleAdapters.peekLast().idleSinceNanos()) > idleTimeoutNanos)) {
+            idleAdapters.pollLast();
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int getIdleCount() {
+        return idleAdapters.size();
+    }
+}
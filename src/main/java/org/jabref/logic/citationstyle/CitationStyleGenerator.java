@@ -1,31 +1,53 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
+import com.google.common.collect.Lists;
 import de.undercouch.citeproc.output.Citation;
 import org.jbibtex.TokenMgrException;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses a {@link CSLAdapterPool} to create output, thus independent callers (preview,
+ * copy citation, OpenOffice integration, ...) do not wait for each other.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+
+    /**
+     * Each CSL engine holds its own JavaScript context, which costs considerable memory. Thus, the pool is kept small.
+     */
+    private static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool(Math.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, 4));
+
+    private static volatile @Nullable RenderedCitationsStorage renderedCitationsStorage;
 
     private CitationStyleGenerator() {
     }
 
+    /**
+     * Sets the storage that is consulted before rendering bibliographies and that receives all newly rendered bibliographies.
+     */
+    public static void setRenderedCitationsStorage(@Nullable RenderedCitationsStorage storage) {
+        renderedCitationsStorage = storage;
+    }
+
     /**
      * Generates a Citation based on a given list of entries and a style with a default {@link BibDatabaseContext}
      *
@@ -54,7 +76,8 @@ public class CitationStyleGenerator {
     }
 
     public static Citation generateCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
-        return CSL_ADAPTER.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+        return CSL_ADAPTER_POOL.execute(style, outputFormat,
+                adapter -> adapter.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager));
     }
 
     /**
@@ -63,22 +86,98 @@ public class CitationStyleGenerator {
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
      */
     public static List<String> generateBibliographies(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        RenderedCitationsStorage storage = renderedCitationsStorage;
+        if (storage != null) {
+            Optional<List<String>> storedCitations = storage.get(style, outputFormat, bibEntries, databaseContext);
+            if (storedCitations.isPresent()) {
+                return storedCitations.get();
+            }
+        }
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
-        } catch (IllegalArgumentException e) {
-            LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", e);
-            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
-        } catch (IOException | ArrayIndexOutOfBoundsException e) {
-            LOGGER.error("Could not generate BibEntry citation", e);
-            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
-        } catch (TokenMgrException e) {
-            LOGGER.error("Bad character inside BibEntry", e);
-            // sadly one cannot easily retrieve the bad char from the TokenMgrError
-            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style.") +
-                    outputFormat.getLineSeparator() +
-                    Localization.lang("Bad character inside entry") +
-                    outputFormat.getLineSeparator() +
-                    e.getLocalizedMessage());
+            List<String> citations = CSL_ADAPTER_POOL.execute(style, outputFormat,
+                    adapter -> adapter.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager));
+            if (storage != null) {
+                storage.set(style, outputFormat, bibEntries, databaseContext, citations);
+            }
+            return citations;
+        } catch (IllegalArgumentException | IOException | ArrayIndexOutOfBoundsException | TokenMgrException e) {
+            return Collections.singletonList(getErrorMessage(e, outputFormat));
+        }
+    }
+
+    /**
+     * Generates the bibliography of each entry on its own (i.e., not sorted or numbered relative to the other entries).
+     * The entries are partitioned across the pooled CSL engines and rendered in parallel.
+     *
+     * @return the rendered entries in the order of the given entries (always one string per entry, in case of errors it is an error message)
+     * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
+     */
+    public static List<String> generateBibliographyOfEachEntry(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        int partitionSize = Math.max(1, Math.ceilDiv(bibEntries.size(), CSL_ADAPTER_POOL.getMaxSize()));
+        List<Callable<List<String>>> tasks = new ArrayList<>();
+        for (List<BibEntry> partition : Lists.partition(bibEntries, partitionSize)) {
+            tasks.add(() -> CSL_ADAPTER_POOL.execute(style, outputFormat, adapter -> {
+                List<String> renderedEntries = new ArrayList<>(partition.size());
+                for (BibEntry entry : partition) {
+                    renderedEntries.add(renderSingleEntry(adapter, entry, style, outputFormat, databaseContext, entryTypesManager));
+                }
+                return renderedEntries;
+            }));
+        }
+
+        List<String> result = new ArrayList<>(bibEntries.size());
+        for (Future<List<String>> future : HeadlessExecutorService.INSTANCE.executeAll(tasks)) {
+            try {
+                result.addAll(future.get());
+            } catch (InterruptedException | ExecutionException e) {
+                LOGGER.error("Could not generate BibEntry citation", e);
+                break;
+            }
+        }
+        if (result.size() != bibEntries.size()) {
+            return Collections.nCopies(bibEntries.size(), Localization.lang("Cannot generate preview based on selected citation style."));
+        }
+        return result;
+    }
+
+    private static String renderSingleEntry(CSLAdapter adapter, BibEntry entry, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        RenderedCitationsStorage storage = renderedCitationsStorage;
+        if (storage != null) {
+            Optional<List<String>> storedCitations = storage.get(style, outputFormat, List.of(entry), databaseContext);
+            if (storedCitations.isPresent()) {
+                return storedCitations.get().getFirst();
+            }
+        }
+        try {
+            List<String> citations = adapter.makeBibliography(List.of(entry), style, outputFormat, databaseContext, entryTypesManager);
+            if (storage != null) {
+                storage.set(style, outputFormat, List.of(entry), databaseContext, citations);
+            }
+            return citations.getFirst();
+        } catch (IllegalArgumentException | IOException | ArrayIndexOutOfBoundsException | TokenMgrException e) {
+            return getErrorMessage(e, outputFormat);
+        }
+    }
+
+    private static String getErrorMessage(Exception exception, CitationStyleOutputFormat outputFormat) {
+        switch (exception) {
+            case IllegalArgumentException e -> {
+                LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", e);
+                return Localization.lang("Cannot generate preview based on selected citation style.");
+            }
+            case TokenMgrException e -> {
+                LOGGER.error("Bad character inside BibEntry", e);
+                // sadly one cannot easily retrieve the bad char from the TokenMgrError
+                return Localization.lang("Cannot generate preview based on selected citation style.") +
+                        outputFormat.getLineSeparator() +
+                        Localization.lang("Bad character inside entry") +
+                        outputFormat.getLineSeparator() +
+                        e.getLocalizedMessage();
+            }
+            default -> {
+                LOGGER.error("Could not generate BibEntry citation", exception);
+                return Localization.lang("Cannot generate preview based on selected citation style.");
+            }
         }
     }
 }
@@ -0,0 +1,155 @@
+package org.jabref.logic.citationstyle;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.MVStoreBase;
+import org.jabref.logic.util.NotificationService;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Disk-backed storage of rendered citations. Survives restarts of JabRef, thus previews of a library are available
+ * immediately after reopening it or after switching back to a previously used style.
+ * <p>
+ * There is one map per style. Maps of styles that were not used for {@link #STYLE_RETENTION} are removed on startup.
+ * <p>
+ * Entries having a crossref are not stored, because their rendering depends on the parent entry.
+ */
+public class MVStoreRenderedCitationsStorage extends MVStoreBase implements RenderedCitationsStorage {
+
+    private static final String CITATIONS_MAP_PREFIX = "citations";
+    private static final String STYLES_LAST_USED_MAP = "styles-last-used";
+
+    private static final Duration STYLE_RETENTION = Duration.ofDays(30);
+
+    /**
+     * Edited entries leave their old renderings behind. The map of a style is cleared as soon as it grows beyond this size.
+     */
+    private static final int MAX_CITATIONS_PER_STYLE = 50_000;
+
+    private final Map<String, Long> stylesLastUsed;
+    private final Set<String> stylesUsedInThisSession = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Previews mostly use the same style for many lookups in a row, thus the hash of the last style is reused
+     */
+    private volatile HashedStyle lastHashedStyle = new HashedStyle("", hash(""));
+
+    private record HashedStyle(String style, String hash) {
+    }
+
+    public MVStoreRenderedCitationsStorage(Path path, NotificationService dialogService) {
+        super(path, dialogService);
+        this.stylesLastUsed = mvStore.openMap(STYLES_LAST_USED_MAP);
+        removeUnusedStyles();
+    }
+
+    @Override
+    public Optional<List<String>> get(String style, CitationStyleOutputFormat outputFormat, List<BibEntry> entries, BibDatabaseContext databaseContext) {
+        if (!isStorable(entries)) {
+            return Optional.empty();
+        }
+        String styleHash = hashStyle(style);
+        markStyleAsUsed(styleHash);
+        return Optional.ofNullable(getMap(styleHash).get(getKey(outputFormat, entries, databaseContext)));
+    }
+
+    @Override
+    public void set(String style, CitationStyleOutputFormat outputFormat, List<BibEntry> entries, BibDatabaseContext databaseContext, List<String> renderedCitations) {
+        if (!isStorable(entries)) {
+            return;
+        }
+        String styleHash = hashStyle(style);
+        markStyleAsUsed(styleHash);
+        Map<String, ArrayList<String>> citations = getMap(styleHash);
+        if (citations.size() >= MAX_CITATIONS_PER_STYLE) {
+            citations.clear();
+        }
+        citations.put(getKey(outputFormat, entries, databaseContext), new ArrayList<>(renderedCitations));
+    }
+
+    private static boolean isStorable(List<BibEntry> entries) {
+        return !entries.isEmpty() && entries.stream().noneMatch(entry -> entry.hasField(StandardField.CROSSREF));
+    }
+
+    private void markStyleAsUsed(String styleHash) {
+        if (stylesUsedInThisSession.add(styleHash)) {
+            stylesLastUsed.put(styleHash, Instant.now().toEpochMilli());
+        }
+    }
+
+    private void removeUnusedStyles() {
+        long oldestAllowed = Instant.now().minus(STYLE_RETENTION).toEpochMilli();
+        List<String> unusedStyles = stylesLastUsed.entrySet().stream()
+                                                  .filter(entry -> entry.getValue() < oldestAllowed)
+                                                  .map(Map.Entry::getKey)
+                                                  .toList();
+        for (String styleHash : unusedStyles) {
+            mvStore.removeMap(CITATIONS_MAP_PREFIX + "-" + styleHash);
+            stylesLastUsed.remove(styleHash);
+        }
+    }
+
+    private Map<String, ArrayList<String>> getMap(String styleHash) {
+        return mvStore.openMap(CITATIONS_MAP_PREFIX + "-" + styleHash);
+    }
+
+    private String hashStyle(String style) {
+        HashedStyle hashedStyle = lastHashedStyle;
+        // String#equals returns early for the same instance, which is the common case
+        if (!hashedStyle.style().equals(style)) {
+            hashedStyle = new HashedStyle(style, hash(style));
+            lastHashedStyle = hashedStyle;
+        }
+        return hashedStyle.hash();
+    }
+
+    private static String hash(String style) {
+        return Hashing.sha256().hashString(style, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * The key covers everything the CSL engine gets to see: the output format, the mode of the library and the type and (resolved) fields of each entry.
+     */
+    private static String getKey(CitationStyleOutputFormat outputFormat, List<BibEntry> entries, BibDatabaseContext databaseContext) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(outputFormat.name(), StandardCharsets.UTF_8);
+        hasher.putString(databaseContext.getMode().name(), StandardCharsets.UTF_8);
+        for (BibEntry entry : entries) {
+            hasher.putChar('@').putString(entry.getType().getName(), StandardCharsets.UTF_8);
+            entry.getFields().stream()
+                 .sorted(Comparator.comparing(Field::getName))
+                 .forEach(field -> hasher.putChar('\n')
+                                         .putString(field.getName(), StandardCharsets.UTF_8)
+                                         .putChar('=')
+                                         .putString(entry.getResolvedFieldOrAlias(field, databaseContext.getDatabase()).orElse(""), StandardCharsets.UTF_8));
+        }
+        return hasher.hash().toString();
+    }
+
+    @Override
+    protected String errorMessageForOpening() {
+        return "An error occurred while opening the citation cache. Rendered citations will not be stored in the next session.";
+    }
+
+    @Override
+    protected String errorMessageForOpeningLocalized() {
+        return Localization.lang("An error occurred while opening the citation cache. Rendered citations will not be stored in the next session.");
+    }
+}
@@ -0,0 +1,18 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Stores rendered citations so that they do not need to be generated again by the CSL engine.
+ * The citations are identified by the style, the output format and the content of the entries.
+ */
+public interface RenderedCitationsStorage {
+
+    Optional<List<String>> get(String style, CitationStyleOutputFormat outputFormat, List<BibEntry> entries, BibDatabaseContext databaseContext);
+
+    void set(String style, CitationStyleOutputFormat outputFormat, List<BibEntry> entries, BibDatabaseContext databaseContext, List<String> renderedCitations);
+}
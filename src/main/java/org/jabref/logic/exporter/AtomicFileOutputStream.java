@@ -1,9 +1,12 @@
 package org.jabref.logic.exporter;
 
+import java.io.EOFException;
 import java.io.FileOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.channels.OverlappingFileLockException;
 import java.nio.file.Files;
@@ -72,6 +75,8 @@ public class AtomicFileOutputStream extends FilterOutputStream {
 
     private boolean errorDuringWrite = false;
 
+    private long bytesWritten = 0;
+
     /**
      * Creates a new output stream to write to or replace the file at the specified path.
      *
@@ -136,6 +141,44 @@ public class AtomicFileOutputStream extends FilterOutputStream {
         return backupFile;
     }
 
+    /**
+     * Returns the number of bytes written so far
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Copies the given range of the source to this stream. If possible, the bytes are transferred by the operating
+     * system without copying them to the heap.
+     */
+    public void transferFrom(FileChannel source, long position, long count) throws IOException {
+        try {
+            if (out instanceof FileOutputStream stream) {
+                FileChannel target = stream.getChannel();
+                long transferred = 0;
+                while (transferred < count) {
+                    long transferredNow = source.transferTo(position + transferred, count - transferred, target);
+                    if (transferredNow <= 0) {
+                        throw new EOFException("Could not read " + count + " bytes at position " + position);
+                    }
+                    transferred += transferredNow;
+                }
+            } else {
+                byte[] bytes = Channels.newInputStream(source.position(position)).readNBytes(Math.toIntExact(count));
+                if (bytes.length < count) {
+                    throw new EOFException("Could not read " + count + " bytes at position " + position);
+                }
+                out.write(bytes);
+            }
+            bytesWritten += count;
+        } catch (IOException exception) {
+            cleanup();
+            errorDuringWrite = true;
+            throw exception;
+        }
+    }
+
     /**
      * Overridden because of cleanup actions in case of an error
      */
@@ -143,6 +186,7 @@ public class AtomicFileOutputStream extends FilterOutputStream {
     public void write(byte b[], int off, int len) throws IOException {
         try {
             out.write(b, off, len);
+            bytesWritten += len;
         } catch (IOException exception) {
             cleanup();
             errorDuringWrite = true;
@@ -267,6 +311,7 @@ public class AtomicFileOutputStream extends FilterOutputStream {
     public void write(int b) throws IOException {
         try {
             super.write(b);
+            bytesWritten++;
         } catch (IOException exception) {
             cleanup();
             throw exception;
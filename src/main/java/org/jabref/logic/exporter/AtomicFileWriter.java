@@ -2,6 +2,7 @@ package org.jabref.logic.exporter;
 
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.file.Path;
@@ -18,6 +19,7 @@ import java.util.TreeSet;
  */
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    private final AtomicFileOutputStream outputStream;
     private final CharsetEncoder encoder;
     private final Set<Character> problemCharacters = new TreeSet<>();
 
@@ -26,8 +28,30 @@ public class AtomicFileWriter extends OutputStreamWriter {
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
-        encoder = encoding.newEncoder();
+        this(new AtomicFileOutputStream(file, keepBackup), encoding);
+    }
+
+    private AtomicFileWriter(AtomicFileOutputStream outputStream, Charset encoding) {
+        super(outputStream, encoding);
+        this.outputStream = outputStream;
+        this.encoder = encoding.newEncoder();
+    }
+
+    /**
+     * Returns the number of bytes written so far. Flushes the characters waiting for being encoded.
+     */
+    public long getBytesWritten() throws IOException {
+        flush();
+        return outputStream.getBytesWritten();
+    }
+
+    /**
+     * Copies the given range of the source (e.g., of the current version of the target file) to the file.
+     * The bytes are copied as they are, they need to be in the encoding of this writer.
+     */
+    public void transferFrom(FileChannel source, long position, long count) throws IOException {
+        flush();
+        outputStream.transferFrom(source, position, count);
     }
 
     @Override
@@ -208,9 +208,8 @@ public abstract class BibDatabaseWriter {
                 // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
-
-            writeEntry(entry, bibDatabaseContext.getMode());
         }
+        writeEntries(sortedEntries, bibDatabaseContext.getMode());
 
         if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
             // Write meta data.
@@ -226,6 +225,15 @@ public abstract class BibDatabaseWriter {
 
     protected abstract void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
 
+    /**
+     * Writes the given entries in the given order. Subclasses may serialize the entries concurrently as long as the output stays the same.
+     */
+    protected void writeEntries(List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        for (BibEntry entry : entries) {
+            writeEntry(entry, mode);
+        }
+    }
+
     protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
 
     protected abstract void writeEpilogue(String epilogue) throws IOException;
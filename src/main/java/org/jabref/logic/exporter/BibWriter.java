@@ -72,7 +72,33 @@ public class BibWriter {
         this.precedingNewLineRequired = true;
     }
 
+    /**
+     * Writes the line break separating a new block from the previous block, if required. Afterward, the next character
+     * written to the underlying writer is the first character of the new block.
+     */
+    public void startBlock() throws IOException {
+        if (precedingNewLineRequired) {
+            writer.write(newLineSeparator);
+            currentPosition += newLineSeparator.length();
+            precedingNewLineRequired = false;
+        }
+    }
+
+    /**
+     * Finishes a block which was written directly to the underlying writer after {@link #startBlock()}, e.g., a block copied
+     * from an existing file. Such a block has to end with a line break. {@link #getCurrentPosition()} does not include it.
+     */
+    public void finishCopiedBlock() {
+        this.lastWriteWasNewline = true;
+        this.somethingWasWritten = false;
+        this.precedingNewLineRequired = true;
+    }
+
     public int getCurrentPosition() {
         return currentPosition;
     }
+
+    public String getNewLineSeparator() {
+        return newLineSeparator;
+    }
 }
@@ -1,16 +1,27 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
@@ -21,6 +32,8 @@ import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +51,17 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     private static final String PREAMBLE_PREFIX = "@Preamble";
     private static final String STRING_PREFIX = "@String";
 
+    /**
+     * Number of entries serialized by one worker at once when writing in parallel.
+     */
+    private static final int PARALLEL_BATCH_SIZE = 1000;
+
+    private BibEntryWriter entryWriter;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private SaveIndex.Update saveIndexUpdate;
+    private AtomicFileWriter fileWriter;
+
     public BibtexDatabaseWriter(BibWriter bibWriter,
                                 SelfContainedSaveConfiguration saveConfiguration,
                                 FieldPreferences fieldPreferences,
@@ -157,7 +181,174 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
 
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        getEntryWriter().write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+    }
+
+    /**
+     * Copies the entries which did not change since the last save from the current version of the file and records
+     * where each entry is written to. Only to be used if the complete library is written to the file of the given update
+     * using the given file writer.
+     */
+    public void useSaveIndex(SaveIndex.Update saveIndexUpdate, AtomicFileWriter fileWriter) {
+        this.saveIndexUpdate = saveIndexUpdate;
+        this.fileWriter = fileWriter;
+    }
+
+    /**
+     * Sets the maximum number of workers serializing entries at the same time
+     */
+    @VisibleForTesting
+    void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Serializes large numbers of entries in parallel. The entries are processed in windows of consecutive entries.
+     * The entries of a window are split among the workers, each using its own {@link BibEntryWriter}. The results are
+     * written in order, thus the output is the same as when writing sequentially.
+     */
+    @Override
+    protected void writeEntries(List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        if ((saveIndexUpdate != null) && saveIndexUpdate.recordsRanges()) {
+            writeEntriesUsingSaveIndex(entries, mode);
+            return;
+        }
+        if (getNumberOfWorkers(entries.size()) <= 1) {
+            super.writeEntries(entries, mode);
+            return;
+        }
+
+        for (List<BibEntry> window : Lists.partition(entries, PARALLEL_BATCH_SIZE * parallelism)) {
+            for (String serializedEntry : serializeEntries(window, mode)) {
+                bibWriter.write(serializedEntry);
+                bibWriter.finishBlock();
+            }
+        }
+    }
+
+    private void writeEntriesUsingSaveIndex(List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        long newLineLength = saveIndexUpdate.getByteLength(bibWriter.getNewLineSeparator());
+        bibWriter.startBlock();
+        long position = fileWriter.getBytesWritten();
+        boolean firstEntry = true;
+        // Unchanged entries following each other in the current file are copied at once
+        SaveIndex.Range pendingCopy = null;
+
+        try (FileChannel currentFile = saveIndexUpdate.canCopy() ? FileChannel.open(saveIndexUpdate.getFile(), StandardOpenOption.READ) : null) {
+            for (List<BibEntry> window : Lists.partition(entries, PARALLEL_BATCH_SIZE * parallelism)) {
+                List<Optional<SaveIndex.Range>> copyableRanges = window.stream().map(saveIndexUpdate::getCopyableRange).toList();
+                List<BibEntry> entriesToSerialize = new ArrayList<>();
+                for (int i = 0; i < window.size(); i++) {
+                    if (copyableRanges.get(i).isEmpty()) {
+                        entriesToSerialize.add(window.get(i));
+                    }
+                }
+                Iterator<String> serializedEntries = serializeEntries(entriesToSerialize, mode).iterator();
+
+                for (int i = 0; i < window.size(); i++) {
+                    long start = firstEntry ? position : position + newLineLength;
+                    firstEntry = false;
+                    Optional<SaveIndex.Range> copyableRange = copyableRanges.get(i);
+                    if (copyableRange.isPresent()) {
+                        SaveIndex.Range range = copyableRange.get();
+                        if ((pendingCopy != null) && (range.start() == (pendingCopy.end() + newLineLength))) {
+                            pendingCopy = new SaveIndex.Range(pendingCopy.start(), range.end());
+                        } else {
+                            copy(currentFile, pendingCopy);
+                            pendingCopy = range;
+                        }
+                        position = start + range.length();
+                    } else {
+                        copy(currentFile, pendingCopy);
+                        pendingCopy = null;
+                        String serializedEntry = serializedEntries.next();
+                        bibWriter.write(serializedEntry);
+                        bibWriter.finishBlock();
+                        position = start + saveIndexUpdate.getByteLength(serializedEntry);
+                    }
+                    saveIndexUpdate.record(window.get(i), new SaveIndex.Range(start, position));
+                }
+            }
+            copy(currentFile, pendingCopy);
+        }
+    }
+
+    private void copy(FileChannel currentFile, SaveIndex.Range range) throws IOException {
+        if (range == null) {
+            return;
+        }
+        bibWriter.startBlock();
+        fileWriter.transferFrom(currentFile, range.start(), range.length());
+        bibWriter.finishCopiedBlock();
+    }
+
+    private BibEntryWriter getEntryWriter() {
+        if (entryWriter == null) {
+            entryWriter = createEntryWriter();
+        }
+        return entryWriter;
+    }
+
+    private BibEntryWriter createEntryWriter() {
+        return new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
+    }
+
+    private int getNumberOfWorkers(int numberOfEntries) {
+        return Math.min(parallelism, Math.ceilDiv(numberOfEntries, PARALLEL_BATCH_SIZE));
+    }
+
+    /**
+     * Serializes the given entries, in parallel if there are enough entries.
+     *
+     * @return the serialization of each entry, in the order of the given entries
+     */
+    private List<String> serializeEntries(List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        int workers = getNumberOfWorkers(entries.size());
+        if (workers <= 1) {
+            return serializeEntries(entries, getEntryWriter(), mode);
+        }
+
+        List<Callable<List<String>>> tasks = new ArrayList<>(workers);
+        for (List<BibEntry> batch : Lists.partition(entries, Math.ceilDiv(entries.size(), workers))) {
+            tasks.add(() -> serializeEntries(batch, createEntryWriter(), mode));
+        }
+        List<Future<List<String>>> results = HeadlessExecutorService.INSTANCE.executeAll(tasks);
+        if (results.size() != tasks.size()) {
+            throw new IOException("Writing of entries was interrupted");
+        }
+
+        List<String> serializedEntries = new ArrayList<>(entries.size());
+        for (Future<List<String>> result : results) {
+            serializedEntries.addAll(getSerializedEntries(result));
+        }
+        return serializedEntries;
+    }
+
+    private List<String> serializeEntries(List<BibEntry> entries, BibEntryWriter workerEntryWriter, BibDatabaseMode mode) throws IOException {
+        List<String> serializedEntries = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            StringWriter buffer = new StringWriter();
+            workerEntryWriter.write(entry, new BibWriter(buffer, bibWriter.getNewLineSeparator()), mode, saveConfiguration.shouldReformatFile());
+            serializedEntries.add(buffer.toString());
+        }
+        return serializedEntries;
+    }
+
+    private static List<String> getSerializedEntries(Future<List<String>> result) throws IOException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Could not serialize entries", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Writing of entries was interrupted", e);
+        }
     }
 }
@@ -0,0 +1,236 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.base.Utf8;
+import com.google.common.eventbus.Subscribe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers the byte range of each entry in the file written by the last save of a library.
+ * <p>
+ * When saving the library to the same file again, entries which did not change since then are copied from the file
+ * instead of being serialized and encoded again (see {@link BibtexDatabaseWriter#useSaveIndex(Update, AtomicFileWriter)}).
+ * Consecutive unchanged entries are copied at once, thus a save after a small edit copies few large ranges.
+ * The new file is still written completely and moved into place atomically by {@link AtomicFileOutputStream}.
+ * <p>
+ * The index forgets the range of an entry as soon as the entry is changed. The complete index is ignored if the file
+ * was modified by someone else or if the settings influencing the serialization of entries changed.
+ * <p>
+ * Ranges are only recorded for encodings which encode each string independently of the text before it (see
+ * {@link #supportsRanges(Charset)}). For other encodings, all entries are serialized on each save.
+ */
+public class SaveIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaveIndex.class);
+
+    /**
+     * Byte range of an entry in a file. The end is exclusive.
+     */
+    public record Range(long start, long end) {
+        public long length() {
+            return end - start;
+        }
+    }
+
+    /**
+     * Everything which influences the bytes written for an entry
+     */
+    private record Format(Charset encoding,
+                          String newLineSeparator,
+                          BibDatabaseMode mode,
+                          boolean resolveStrings,
+                          List<Field> resolvableFields,
+                          List<Field> nonWrappableFields) {
+    }
+
+    private record SavedFile(Path file, long size, FileTime lastModified, Format format) {
+    }
+
+    /**
+     * Guarded by {@code this}
+     */
+    private final Map<BibEntry, Range> ranges = new IdentityHashMap<>();
+    private SavedFile savedFile;
+    private Update currentUpdate;
+
+    public SaveIndex(BibDatabase database) {
+        database.registerListener(this);
+    }
+
+    /**
+     * Starts a save of the complete library to the given file. Call {@link Update#commit()} after the file was written.
+     */
+    public synchronized Update startSave(Path file,
+                                         Charset encoding,
+                                         String newLineSeparator,
+                                         BibDatabaseMode mode,
+                                         FieldPreferences fieldPreferences,
+                                         boolean reformatFile) {
+        Format format = new Format(
+                encoding,
+                newLineSeparator,
+                mode,
+                fieldPreferences.shouldResolveStrings(),
+                List.copyOf(fieldPreferences.getResolvableFields()),
+                List.copyOf(fieldPreferences.getNonWrappableFields()));
+        boolean recordsRanges = supportsRanges(encoding);
+        boolean canCopy = recordsRanges && !reformatFile && isUpToDate(file, format);
+        currentUpdate = new Update(file, format, recordsRanges, canCopy);
+        return currentUpdate;
+    }
+
+    /**
+     * The byte length of an entry can only be computed from the entry alone, and its bytes can only be copied to
+     * another position, if the encoding is stateless. This does not hold for encodings writing a byte order mark at the
+     * start of the text (e.g., UTF-16) or switching between character sets by escape sequences (e.g., ISO-2022-JP).
+     */
+    public static boolean supportsRanges(Charset encoding) {
+        if (StandardCharsets.UTF_8.equals(encoding)
+                || StandardCharsets.UTF_16BE.equals(encoding)
+                || StandardCharsets.UTF_16LE.equals(encoding)) {
+            return true;
+        }
+        // Single byte encodings have neither a byte order mark nor escape sequences
+        return encoding.canEncode() && (encoding.newEncoder().maxBytesPerChar() == 1.0f);
+    }
+
+    private boolean isUpToDate(Path file, Format format) {
+        if ((savedFile == null) || !savedFile.file().equals(file) || !savedFile.format().equals(format)) {
+            return false;
+        }
+        try {
+            return (Files.size(file) == savedFile.size()) && Files.getLastModifiedTime(file).equals(savedFile.lastModified());
+        } catch (IOException e) {
+            LOGGER.debug("Could not read attributes of {}", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the range of the given entry in the file written by the last save
+     */
+    public synchronized Optional<Range> getRange(BibEntry entry) {
+        return Optional.ofNullable(ranges.get(entry));
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        forget(event.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::forget);
+    }
+
+    private void forget(BibEntry entry) {
+        ranges.remove(entry);
+        if (currentUpdate != null) {
+            // The entry may be written to the new file with its old content
+            currentUpdate.newRanges.remove(entry);
+        }
+    }
+
+    /**
+     * Records where the entries are written to by one save.
+     */
+    public class Update {
+        private final Path file;
+        private final Format format;
+        private final boolean recordsRanges;
+        private final boolean canCopy;
+        private final Map<BibEntry, Range> newRanges = new IdentityHashMap<>();
+
+        private Update(Path file, Format format, boolean recordsRanges, boolean canCopy) {
+            this.file = file;
+            this.format = format;
+            this.recordsRanges = recordsRanges;
+            this.canCopy = canCopy;
+        }
+
+        Path getFile() {
+            return file;
+        }
+
+        /**
+         * Returns whether the ranges of the entries can be recorded for the encoding of this save
+         */
+        boolean recordsRanges() {
+            return recordsRanges;
+        }
+
+        boolean canCopy() {
+            return canCopy;
+        }
+
+        /**
+         * Returns the range of the given entry in the current file if the entry can be copied from there.
+         */
+        Optional<Range> getCopyableRange(BibEntry entry) {
+            return canCopy ? getRange(entry) : Optional.empty();
+        }
+
+        void record(BibEntry entry, Range range) {
+            synchronized (SaveIndex.this) {
+                newRanges.put(entry, range);
+            }
+        }
+
+        /**
+         * Returns the number of bytes of the given string in the encoding of this save. Only valid if {@link #recordsRanges()}.
+         */
+        long getByteLength(String string) {
+            if (StandardCharsets.UTF_8.equals(format.encoding())) {
+                try {
+                    return Utf8.encodedLength(string);
+                } catch (IllegalArgumentException e) {
+                    // Unpaired surrogates are replaced by the encoder
+                    LOGGER.debug("String is not well-formed UTF-16", e);
+                }
+            }
+            return format.encoding().encode(CharBuffer.wrap(string)).remaining();
+        }
+
+        /**
+         * Replaces the index by the ranges recorded by this save. Call after the file has been moved into place.
+         * If another save to the same file was started in the meantime, the index is cleared, because it is unknown which save wrote the file.
+         */
+        public void commit() {
+            synchronized (SaveIndex.this) {
+                ranges.clear();
+                if (currentUpdate != this) {
+                    savedFile = null;
+                    return;
+                }
+                currentUpdate = null;
+                try {
+                    savedFile = new SavedFile(file, Files.size(file), Files.getLastModifiedTime(file), format);
+                    ranges.putAll(newRanges);
+                } catch (IOException e) {
+                    LOGGER.debug("Could not read attributes of {}", file, e);
+                    savedFile = null;
+                }
+            }
+        }
+    }
+}
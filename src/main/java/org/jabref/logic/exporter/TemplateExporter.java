@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -15,6 +17,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -24,13 +32,17 @@ import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,7 +51,11 @@ import org.slf4j.LoggerFactory;
  */
 public class TemplateExporter extends Exporter {
 
-    private static final String BLANK_LINE_PATTERN = "\\r\\n|\\n";
+    /**
+     * Number of entries laid out by one worker at once when exporting in parallel.
+     */
+    private static final int PARALLEL_BATCH_SIZE = 500;
+
     private static final String LAYOUT_PREFIX = "/resource/layout/";
     private static final String LAYOUT_EXTENSION = ".layout";
     private static final String FORMATTERS_EXTENSION = ".formatters";
@@ -54,6 +70,7 @@ public class TemplateExporter extends Exporter {
     private final SelfContainedSaveOrder saveOrder;
     private boolean customExport;
     private BlankLineBehaviour blankLineBehaviour;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
 
     /**
      * Initialize another export format based on templates stored in dir with layoutFile lfFilename.
@@ -154,6 +171,14 @@ public class TemplateExporter extends Exporter {
         this.customExport = custom;
     }
 
+    /**
+     * Sets the maximum number of workers laying out entries at the same time
+     */
+    @VisibleForTesting
+    void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     /**
      * This method should return a reader from which the given layout file can be read.
      * <p>
@@ -240,65 +265,32 @@ public class TemplateExporter extends Exporter {
              */
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
-            // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
+            // Load default and type-specific layouts
+            Set<EntryType> entryTypes = sorted.stream().map(BibEntry::getType).collect(Collectors.toSet());
+            EntryLayouts entryLayouts = new EntryLayouts(entryTypes, fileDirForDatabase, abbreviationRepository);
+            missingFormatters.addAll(entryLayouts.getMissingFormatters());
+
+            int workers = Math.min(parallelism, Math.ceilDiv(sorted.size(), PARALLEL_BATCH_SIZE));
+            if ((workers <= 1) || entryLayouts.containsGroupBlock()) {
+                try {
+                    writeEntries(ps, sorted, 0, entryLayouts, databaseContext.getDatabase());
+                } finally {
+                    Number.resetSerialExportNumber();
                 }
-            }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
-            for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
-                EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
-                }
-
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+            } else {
+                // Layouts (and their formatters) are not shared between threads, thus each worker gets its own
+                List<EntryLayouts> workerLayouts = new ArrayList<>(workers);
+                workerLayouts.add(entryLayouts);
+                for (int i = 1; i < workers; i++) {
+                    workerLayouts.add(new EntryLayouts(entryTypes, fileDirForDatabase, abbreviationRepository));
                 }
+                writeEntriesInParallel(ps, sorted, workerLayouts, databaseContext.getDatabase());
             }
 
             // Print footer
             Layout endLayout = null;
             try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
                 endLayout = layoutHelper.getLayoutFromText();
             } catch (IOException ex) {
                 // If an exception was thrown, export filter doesn't have an end
@@ -319,6 +311,146 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Lays out the given entries in the given order and writes them to the writer.
+     *
+     * @param serialNumberOffset the number of entries preceding the given ones in the export (used by the {@link Number} formatter)
+     */
+    private void writeEntries(Writer writer, List<BibEntry> entries, int serialNumberOffset, EntryLayouts entryLayouts, BibDatabase database) throws IOException {
+        int serialNumber = serialNumberOffset;
+        for (BibEntry entry : entries) {
+            serialNumber++;
+            Number.setSerialExportNumber(serialNumber);
+            Layout layout = entryLayouts.getLayout(entry.getType());
+            if (layout != null) {
+                String layoutedEntry = layout.doLayout(entry, database);
+                if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
+                    writeNonBlankLines(writer, layoutedEntry);
+                } else {
+                    writer.write(layoutedEntry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lays out batches of entries in parallel. The batches are written in order, thus the output is the same as the one of {@link #writeEntries}.
+     * Only one window of batches (one batch per worker) is kept in memory at a time.
+     */
+    private void writeEntriesInParallel(Writer writer, List<BibEntry> entries, List<EntryLayouts> workerLayouts, BibDatabase database) throws Exception {
+        List<List<BibEntry>> batches = Lists.partition(entries, PARALLEL_BATCH_SIZE);
+        for (int windowStart = 0; windowStart < batches.size(); windowStart += workerLayouts.size()) {
+            List<Callable<String>> tasks = new ArrayList<>(workerLayouts.size());
+            for (int worker = 0; (worker < workerLayouts.size()) && ((windowStart + worker) < batches.size()); worker++) {
+                int batchIndex = windowStart + worker;
+                EntryLayouts entryLayouts = workerLayouts.get(worker);
+                tasks.add(() -> {
+                    StringWriter buffer = new StringWriter();
+                    try {
+                        writeEntries(buffer, batches.get(batchIndex), batchIndex * PARALLEL_BATCH_SIZE, entryLayouts, database);
+                    } finally {
+                        Number.resetSerialExportNumber();
+                    }
+                    return buffer.toString();
+                });
+            }
+
+            List<Future<String>> results = HeadlessExecutorService.INSTANCE.executeAll(tasks);
+            if (results.size() != tasks.size()) {
+                throw new IOException("Export was interrupted");
+            }
+            for (Future<String> result : results) {
+                try {
+                    writer.write(result.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes all lines of the text that are not blank, each followed by {@link OS#NEWLINE}.
+     * Lines are separated by <code>\n</code> or <code>\r\n</code>.
+     */
+    private static void writeNonBlankLines(Writer writer, String text) throws IOException {
+        int lineStart = 0;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = text.length();
+            }
+            int contentEnd = lineEnd;
+            if ((lineEnd < text.length()) && (contentEnd > lineStart) && (text.charAt(contentEnd - 1) == '\r')) {
+                contentEnd--;
+            }
+            if (!isBlank(text, lineStart, contentEnd)) {
+                writer.write(text, lineStart, contentEnd - lineStart);
+                writer.write(OS.NEWLINE);
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    private static boolean isBlank(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The default layout and the type-specific layouts of this export format.
+     */
+    private class EntryLayouts {
+        private final Layout defaultLayout;
+
+        /**
+         * Contains the types having a type-specific layout file. The value may be <code>null</code> if the file is empty.
+         */
+        private final Map<EntryType, Layout> typeLayouts = new HashMap<>();
+
+        EntryLayouts(Set<EntryType> entryTypes, List<Path> fileDirForDatabase, JournalAbbreviationRepository abbreviationRepository) throws IOException {
+            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
+                defaultLayout = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository).getLayoutFromText();
+            }
+            for (EntryType type : entryTypes) {
+                try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                    // We try to get a type-specific layout for this entry.
+                    typeLayouts.put(type, new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository).getLayoutFromText());
+                } catch (IOException ex) {
+                    // The exception indicates that no type-specific layout
+                    // exists, so we go with the default one.
+                }
+            }
+        }
+
+        Layout getLayout(EntryType type) {
+            if (typeLayouts.containsKey(type)) {
+                return typeLayouts.get(type);
+            }
+            return defaultLayout;
+        }
+
+        boolean containsGroupBlock() {
+            return Stream.concat(Stream.of(defaultLayout), typeLayouts.values().stream())
+                         .filter(Objects::nonNull)
+                         .anyMatch(Layout::containsGroupBlock);
+        }
+
+        List<String> getMissingFormatters() {
+            return Stream.concat(Stream.of(defaultLayout), typeLayouts.values().stream())
+                         .filter(Objects::nonNull)
+                         .flatMap(layout -> layout.getMissingFormatters().stream())
+                         .toList();
+        }
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
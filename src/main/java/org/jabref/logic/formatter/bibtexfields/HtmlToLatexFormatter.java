@@ -1,7 +1,6 @@
 package org.jabref.logic.formatter.bibtexfields;
 
 import java.util.Objects;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -9,6 +8,7 @@ import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.MultiPatternReplacer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +20,10 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HtmlToLatexFormatter.class);
 
+    private static final MultiPatternReplacer HTML_ENTITY_REPLACER = new MultiPatternReplacer(HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP);
+
+    private static final Pattern SUPERSCRIPT_PATTERN = Pattern.compile("<[ ]?sup>([^<]+)</sup>");
+    private static final Pattern SUBSCRIPT_PATTERN = Pattern.compile("<[ ]?sub>([^<]+)</sub>");
     private static final Pattern REMOVE_TAGS_PATTERN = Pattern.compile("<[^>]{1,100}>");
     private static final Pattern ESCAPED_PATTERN = Pattern.compile("&#([x]*)([0]*)(\\p{XDigit}+);");
     private static final Pattern ESCAPED_PATTERN2 = Pattern.compile("(.)&#([x]*)([0]*)(\\p{XDigit}+);");
@@ -35,17 +39,14 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
         }
 
         // Deal with the form <sup>k</sup>and <sub>k</sub>
-        result = result.replaceAll("<[ ]?sup>([^<]+)</sup>", "\\\\textsuperscript\\{$1\\}");
-        result = result.replaceAll("<[ ]?sub>([^<]+)</sub>", "\\\\textsubscript\\{$1\\}");
+        result = SUPERSCRIPT_PATTERN.matcher(result).replaceAll("\\\\textsuperscript\\{$1\\}");
+        result = SUBSCRIPT_PATTERN.matcher(result).replaceAll("\\\\textsubscript\\{$1\\}");
         // Note that (at least) the IEEE Xplore fetcher must be fixed as it relies on the current way to
         // remove tags for its image alt-tag to equation converter
         result = REMOVE_TAGS_PATTERN.matcher(result).replaceAll("");
 
         // Handle text based HTML entities
-        Set<String> patterns = HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.keySet();
-        for (String pattern : patterns) {
-            result = result.replace(pattern, HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.get(pattern));
-        }
+        result = HTML_ENTITY_REPLACER.replaceAll(result);
 
         // Handle numerical HTML entities
         Matcher m = ESCAPED_PATTERN.matcher(result);
@@ -1,12 +1,12 @@
 package org.jabref.logic.formatter.bibtexfields;
 
-import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.MultiPatternReplacer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +15,7 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
 
     public static final NormalizeUnicodeFormatter UNICODE_NORMALIZER = new NormalizeUnicodeFormatter();
     private static final Logger LOGGER = LoggerFactory.getLogger(UnicodeToLatexFormatter.class);
+    private static final MultiPatternReplacer UNICODE_LATEX_REPLACER = new MultiPatternReplacer(HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP);
 
     @Override
     public String format(String text) {
@@ -27,10 +28,7 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
         result = UNICODE_NORMALIZER.format(result);
 
         // Standard symbols
-        for (Map.Entry<String, String> unicodeLatexPair : HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP
-                .entrySet()) {
-            result = result.replace(unicodeLatexPair.getKey(), unicodeLatexPair.getValue());
-        }
+        result = UNICODE_LATEX_REPLACER.replaceAll(result);
 
         // Combining accents
         StringBuilder sb = new StringBuilder();
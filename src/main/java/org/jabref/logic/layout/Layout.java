@@ -101,15 +101,9 @@ public class Layout {
         StringBuilder builder = new StringBuilder(100);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
-
-            // The following change means we treat null fields as "". This is to fix the
+            // We treat null fields as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
-            if (fieldText == null) {
-                fieldText = "";
-            }
-
-            builder.append(fieldText);
+            layoutEntry.appendLayout(bibtex, database, builder);
         }
 
         return builder.toString();
@@ -138,6 +132,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Group blocks only print their content if the group differs from the one of the previously laid out entry.
+     * Thus, the output of such a layout depends on the order in which the entries are laid out.
+     */
+    public boolean containsGroupBlock() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroupBlock);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -88,6 +89,7 @@ import org.jabref.logic.openoffice.style.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -99,11 +101,26 @@ import org.slf4j.LoggerFactory;
 class LayoutEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(LayoutEntry.class);
 
+    private static final Pattern AND_OPERATOR = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern AND_SEPARATOR = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern OR_SEPARATOR = Pattern.compile("\\s*(\\|+)\\s*");
+
+    private static final LayoutFormatter[] NO_FORMATTERS = new LayoutFormatter[0];
+
     private List<LayoutFormatter> option;
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
+    // The options followed by the post formatter, so that they need not be assembled for each entry
+    private LayoutFormatter[] formatters = NO_FORMATTERS;
 
     private String text;
+
+    // The fields referenced by this entry are resolved when the layout is created, not for each laid out entry.
+    // Field of a simple command, of a group block and of an option field referencing a field (like \format[...]{\author})
+    private Field field;
+    // Fields of a field block, combined by the operator given by conjunction
+    private List<FieldCondition> fieldConditions;
+    private boolean conjunction;
     private List<LayoutEntry> layoutEntries;
     private final int type;
     private final List<String> invalidFormatter = new ArrayList<>();
@@ -124,10 +141,16 @@ class LayoutEntry {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT ->
                     text = si.s;
-            case LayoutHelper.IS_SIMPLE_COMMAND ->
-                    text = si.s.trim();
-            case LayoutHelper.IS_OPTION_FIELD ->
-                    doOptionField(si.s);
+            case LayoutHelper.IS_SIMPLE_COMMAND -> {
+                text = si.s.trim();
+                field = FieldFactory.parseField(text);
+            }
+            case LayoutHelper.IS_OPTION_FIELD -> {
+                doOptionField(si.s);
+                if (text.startsWith("\\")) {
+                    field = FieldFactory.parseField(text.substring(1));
+                }
+            }
             default -> {
                 // IS_FIELD_START and IS_FIELD_END
             }
@@ -194,10 +217,53 @@ class LayoutEntry {
         for (LayoutEntry layoutEntry : layoutEntries) {
             invalidFormatter.addAll(layoutEntry.getInvalidFormatters());
         }
+
+        if (type == LayoutHelper.IS_GROUP_START) {
+            field = FieldFactory.parseField(text);
+        } else {
+            resolveFieldConditions();
+        }
+    }
+
+    /**
+     * A field of a field block, which is either required to be present or - if negated - to be absent.
+     */
+    private record FieldCondition(Field field, boolean negated) {
+    }
+
+    private void resolveFieldConditions() {
+        // split the strings along &, && or ; for AND formatter, otherwise along |, || for OR formatter
+        conjunction = AND_OPERATOR.matcher(text).matches();
+        String[] parts = (conjunction ? AND_SEPARATOR : OR_SEPARATOR).split(text);
+        fieldConditions = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            boolean negated = part.startsWith("!");
+            fieldConditions.add(new FieldCondition(FieldFactory.parseField(negated ? part.substring(1).trim() : part), negated));
+        }
     }
 
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
+        updateFormatters();
+    }
+
+    private void updateFormatters() {
+        List<LayoutFormatter> allFormatters = new ArrayList<>();
+        if (option != null) {
+            allFormatters.addAll(option);
+        }
+        if (postFormatter != null) {
+            allFormatters.add(postFormatter);
+        }
+        formatters = allFormatters.toArray(NO_FORMATTERS);
+    }
+
+    private String applyFormatters(String value) {
+        String result = value;
+        for (LayoutFormatter formatter : formatters) {
+            result = formatter.format(result);
+        }
+        return result;
     }
 
     public String doLayout(BibEntry bibEntry, BibDatabase database) {
@@ -205,7 +271,7 @@ class LayoutEntry {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibEntry.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibEntry.getResolvedFieldOrAlias(field, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -214,7 +280,8 @@ class LayoutEntry {
                 return value;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibEntry, database);
+                StringBuilder sb = new StringBuilder(100);
+                return appendFieldOrGroupStart(bibEntry, database, sb) ? sb.toString() : null;
             case LayoutHelper.IS_OPTION_FIELD:
                 return handleOptionField(bibEntry, database);
             case LayoutHelper.IS_ENCODING_NAME:
@@ -227,10 +294,31 @@ class LayoutEntry {
         }
     }
 
+    /**
+     * Appends the layout of the given entry to the given builder. Same as {@link #doLayout(BibEntry, BibDatabase)}, but
+     * does not create an intermediate string for text and blocks.
+     */
+    void appendLayout(BibEntry bibEntry, BibDatabase database, StringBuilder sb) {
+        switch (type) {
+            case LayoutHelper.IS_LAYOUT_TEXT ->
+                    sb.append(text);
+            case LayoutHelper.IS_FIELD_START,
+                 LayoutHelper.IS_GROUP_START ->
+                    appendFieldOrGroupStart(bibEntry, database, sb);
+            default -> {
+                String fieldText = doLayout(bibEntry, database);
+                // null fields are treated as "" (see Layout#doLayout)
+                if (fieldText != null) {
+                    sb.append(fieldText);
+                }
+            }
+        }
+    }
+
     private String resolveFieldEntry(BibEntry bidEntry, BibDatabase database) {
         // resolve field (recognized by leading backslash) or text
-        if (text.startsWith("\\")) {
-            return bidEntry.getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+        if (field != null) {
+            return bidEntry.getResolvedFieldOrAlias(field, database)
                            .orElse("");
         }
         if (database == null) {
@@ -251,57 +339,37 @@ class LayoutEntry {
             fieldEntry = resolveFieldEntry(bibtex, database);
         }
 
-        if (option != null) {
-            for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
-            }
-        }
-
-        // If a post formatter has been set, call it:
-        if (postFormatter != null) {
-            fieldEntry = postFormatter.format(fieldEntry);
-        }
-
-        return fieldEntry;
+        return applyFormatters(fieldEntry);
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
-        Optional<String> field;
+    /**
+     * Appends the content of the field or group block to the given builder if the block is to be printed.
+     *
+     * @return false if the block is skipped
+     */
+    private boolean appendFieldOrGroupStart(BibEntry bibtex, BibDatabase database, StringBuilder sb) {
+        Optional<String> fieldValue;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() == negated) {
-                    break;
-                }
-            }
+            fieldValue = bibtex.getResolvedFieldOrAlias(field, database);
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() ^ negated) {
+            fieldValue = Optional.empty();
+            for (FieldCondition condition : fieldConditions) {
+                negated = condition.negated();
+                fieldValue = bibtex.getResolvedFieldOrAlias(condition.field(), database);
+                if (conjunction ? (fieldValue.isPresent() == negated) : (fieldValue.isPresent() ^ negated)) {
                     break;
                 }
             }
         }
 
-        if ((field.isPresent() == negated) || ((type == LayoutHelper.IS_GROUP_START)
-                && field.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
-            return null;
+        if ((fieldValue.isPresent() == negated) || ((type == LayoutHelper.IS_GROUP_START)
+                && fieldValue.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
+            return false;
         } else {
             if (type == LayoutHelper.IS_GROUP_START) {
-                LayoutHelper.setCurrentGroup(field.get());
+                LayoutHelper.setCurrentGroup(fieldValue.get());
             }
-            StringBuilder sb = new StringBuilder(100);
             String fieldText;
             boolean previousSkipped = false;
 
@@ -328,7 +396,7 @@ class LayoutEntry {
                         }
 
                         if (eol < fieldText.length()) {
-                            sb.append(fieldText.substring(eol));
+                            sb.append(fieldText, eol, fieldText.length());
                         }
                     } else {
                         sb.append(fieldText);
@@ -338,7 +406,7 @@ class LayoutEntry {
                 previousSkipped = false;
             }
 
-            return sb.toString();
+            return true;
         }
     }
 
@@ -364,20 +432,10 @@ class LayoutEntry {
                 throw new UnsupportedOperationException("field and group ends not allowed in begin or end layout");
 
             case LayoutHelper.IS_OPTION_FIELD:
-                String field = Optional.ofNullable(databaseContext.getDatabase())
-                                       .map(db -> db.resolveForStrings(text))
-                                       .orElse(text);
-                if (option != null) {
-                    for (LayoutFormatter anOption : option) {
-                        field = anOption.format(field);
-                    }
-                }
-                // If a post formatter has been set, call it:
-                if (postFormatter != null) {
-                    field = postFormatter.format(field);
-                }
-
-                return field;
+                String fieldText = Optional.ofNullable(databaseContext.getDatabase())
+                                           .map(db -> db.resolveForStrings(text))
+                                           .orElse(text);
+                return applyFormatters(fieldText);
 
             case LayoutHelper.IS_ENCODING_NAME:
                 return encoding.displayName();
@@ -401,6 +459,7 @@ class LayoutEntry {
             text = v.getFirst().trim();
 
             option = getOptionalLayout(v.get(1));
+            updateFormatters();
             // See if there was an undefined formatter:
             for (LayoutFormatter anOption : option) {
                 if (anOption instanceof NotFoundFormatter formatter) {
@@ -539,6 +598,16 @@ class LayoutEntry {
         return results;
     }
 
+    /**
+     * Returns whether this entry is a group block or is a field block containing a group block at any depth
+     */
+    public boolean containsGroupBlock() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroupBlock);
+    }
+
     public List<String> getInvalidFormatters() {
         return invalidFormatter;
     }
@@ -23,6 +23,9 @@ public class HTMLChars implements ParamLayoutFormatter {
      * */
     private static final Pattern HTML_ENTITY_PATTERN = Pattern.compile("&(?!(?:[a-z0-9]+|#[0-9]{1,6}|#x[0-9a-fA-F]{1,6});)");
 
+    private static final Pattern PARAGRAPH_PATTERN = Pattern.compile("[\\n]{2,}");
+    private static final Pattern MATH_PATTERN = Pattern.compile("\\$([^$]*)\\$");
+
     private boolean keepCurlyBraces = false;
 
     @Override
@@ -180,12 +183,12 @@ public class HTMLChars implements ParamLayoutFormatter {
 
     private String normalizedField(String inField) {
         // Cannot use StringEscapeUtils#escapeHtml4 because it does not handle LaTeX characters and commands.
-        return HTML_ENTITY_PATTERN.matcher(inField).replaceAll("&amp;") // Replace & with &amp; if it does not begin an HTML entity
-                                  .replaceAll("\\\\&", "&amp;") // Replace \& with &amp;
-                                  .replaceAll("[\\n]{2,}", "<p>") // Replace double line breaks with <p>
-                                  .replace("\n", "<br>") // Replace single line breaks with <br>
-                                  .replace("\\$", "&dollar;") // Replace \$ with &dollar;
-                                  .replaceAll("\\$([^$]*)\\$", this.keepCurlyBraces ? "\\\\{$1\\\\}" : "$1}");
+        String field = HTML_ENTITY_PATTERN.matcher(inField).replaceAll("&amp;") // Replace & with &amp; if it does not begin an HTML entity
+                                          .replace("\\&", "&amp;"); // Replace \& with &amp;
+        field = PARAGRAPH_PATTERN.matcher(field).replaceAll("<p>") // Replace double line breaks with <p>
+                                 .replace("\n", "<br>") // Replace single line breaks with <br>
+                                 .replace("\\$", "&dollar;"); // Replace \$ with &dollar;
+        return MATH_PATTERN.matcher(field).replaceAll(this.keepCurlyBraces ? "\\\\{$1\\\\}" : "$1}");
     }
 
     private String getHTMLTag(String latexCommand) {
@@ -5,10 +5,25 @@ import org.jabref.logic.layout.ParamLayoutFormatter;
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * <p>
+ * The number is kept per thread, because entries of an export may be laid out in parallel and several exports may run at the same time.
+ * Whoever lays out an entry sets its number using {@link #setSerialExportNumber(int)}.
  */
 public class Number implements ParamLayoutFormatter {
 
-    public static int serialExportNumber;
+    private static final ThreadLocal<Integer> SERIAL_EXPORT_NUMBER = ThreadLocal.withInitial(() -> 0);
+
+    public static void setSerialExportNumber(int serialExportNumber) {
+        SERIAL_EXPORT_NUMBER.set(serialExportNumber);
+    }
+
+    public static int getSerialExportNumber() {
+        return SERIAL_EXPORT_NUMBER.get();
+    }
+
+    public static void resetSerialExportNumber() {
+        SERIAL_EXPORT_NUMBER.remove();
+    }
 
     @Override
     public void setArgument(String arg) {
@@ -17,6 +32,6 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return String.valueOf(SERIAL_EXPORT_NUMBER.get());
     }
 }
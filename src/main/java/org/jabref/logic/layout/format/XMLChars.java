@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.jabref.logic.layout.LayoutFormatter;
+import org.jabref.logic.util.strings.MultiPatternReplacer;
 import org.jabref.logic.util.strings.XmlCharsMap;
 
 /**
@@ -11,7 +12,7 @@ import org.jabref.logic.util.strings.XmlCharsMap;
  */
 public class XMLChars implements LayoutFormatter {
 
-    private static final XmlCharsMap XML_CHARS = new XmlCharsMap();
+    private static final MultiPatternReplacer XML_CHARS_REPLACER = new MultiPatternReplacer(new XmlCharsMap());
 
     private static final Map<String, String> ASCII_TO_XML_CHARS = new HashMap<>();
 
@@ -32,14 +33,7 @@ public class XMLChars implements LayoutFormatter {
         String latexCommandFree = removeLatexCommands(fieldText);
         String formattedFieldText = firstFormat(latexCommandFree);
 
-        for (Map.Entry<String, String> entry : XML_CHARS.entrySet()) {
-            String s = entry.getKey();
-            String repl = entry.getValue();
-            if (repl != null) {
-                formattedFieldText = formattedFieldText.replaceAll(s, repl);
-            }
-        }
-        return restFormat(formattedFieldText);
+        return restFormat(XML_CHARS_REPLACER.replaceAll(formattedFieldText));
     }
 
     private String removeLatexCommands(String fieldText) {
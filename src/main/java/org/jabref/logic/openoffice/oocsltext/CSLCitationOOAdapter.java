@@ -151,8 +151,10 @@ public class CSLCitationOOAdapter {
             // Sort entries based on their order of appearance in the document
             entries.sort(Comparator.comparingInt(entry -> markManager.getCitationNumber(entry.getCitationKey().orElse(""))));
 
-            for (BibEntry entry : entries) {
-                String bibliographyEntry = CitationStyleGenerator.generateBibliography(List.of(entry), style, CSLFormatUtils.OUTPUT_FORMAT, bibDatabaseContext, bibEntryTypesManager).getFirst();
+            List<String> bibliographyEntries = CitationStyleGenerator.generateBibliographyOfEachEntry(entries, style, CSLFormatUtils.OUTPUT_FORMAT, bibDatabaseContext, bibEntryTypesManager);
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntry entry = entries.get(i);
+                String bibliographyEntry = bibliographyEntries.get(i);
                 String citationKey = entry.getCitationKey().orElse("");
                 int currentNumber = markManager.getCitationNumber(citationKey);
 
@@ -1,11 +1,14 @@
 package org.jabref.logic.remote;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.net.Socket;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
 import javafx.util.Pair;
@@ -14,71 +17,146 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * @implNote The first byte of every message identifies its type as a {@link RemoteMessage}.
- * Every message is terminated with '\0'.
+ * Sends and receives {@link RemoteMessage}s over a socket. A connection can be used for any number of messages.
+ *
+ * @implNote Every message is a frame: the length of the payload (4 bytes, big endian) followed by the payload. The
+ * first byte of the payload identifies the type of the message as a {@link RemoteMessage}, the rest is its content.
+ * Strings are written as their length in bytes followed by their UTF-8 encoding, arrays as their length followed by
+ * their elements. Java serialization is not used, thus a frame is only decoded if it has the expected structure.
+ * <p>
+ * This framing is not compatible with JabRef versions sending Java serialized objects. A ping of such an instance
+ * fails, so a new instance is started instead of passing the arguments to the running one.
  */
 public class Protocol implements AutoCloseable {
     public static final String IDENTIFIER = "jabref";
 
+    /**
+     * Larger frames are rejected before being read, e.g., if the peer does not speak this protocol
+     */
+    private static final int MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(Protocol.class);
 
     private final Socket socket;
-    private final ObjectOutputStream out;
-    private final ObjectInputStream in;
+    private final DataOutputStream out;
+    private final DataInputStream in;
 
     public Protocol(Socket socket) throws IOException {
         this.socket = socket;
-        this.out = new ObjectOutputStream(socket.getOutputStream());
-        this.in = new ObjectInputStream(socket.getInputStream());
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
     }
 
     public void sendMessage(RemoteMessage type) throws IOException {
-        out.writeObject(type);
-        out.writeObject(null);
-        out.write('\0');
-        out.flush();
+        sendMessage(type, null);
     }
 
+    /**
+     * @param argument the content of the message, see {@link RemoteMessage} for the type expected for each message
+     */
     public void sendMessage(RemoteMessage type, Object argument) throws IOException {
-        out.writeObject(type);
-
-        // encode the commandline arguments to handle special characters (eg. spaces and Chinese characters)
-        // related to issue #6487
-        if (type == RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS) {
-            String[] encodedArgs = ((String[]) argument).clone();
-            for (int i = 0; i < encodedArgs.length; i++) {
-                encodedArgs[i] = URLEncoder.encode(encodedArgs[i], StandardCharsets.UTF_8);
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream payloadOut = new DataOutputStream(payload);
+        payloadOut.writeByte(type.ordinal());
+        switch (argument) {
+            case null -> {
             }
-            out.writeObject(encodedArgs);
-        } else {
-            out.writeObject(argument);
+            case String string ->
+                    writeString(payloadOut, string);
+            case String[] strings ->
+                    writeStrings(payloadOut, strings);
+            case String[][] batch -> {
+                payloadOut.writeInt(batch.length);
+                for (String[] strings : batch) {
+                    writeStrings(payloadOut, strings);
+                }
+            }
+            default ->
+                    throw new IllegalArgumentException("Unsupported content of message " + type + ": " + argument.getClass());
         }
 
-        out.write('\0');
+        out.writeInt(payload.size());
+        payload.writeTo(out);
         out.flush();
     }
 
+    /**
+     * Waits for the next message
+     *
+     * @throws EOFException if the peer closed the connection before sending a message
+     */
     public Pair<RemoteMessage, Object> receiveMessage() throws IOException {
-        try {
-            RemoteMessage type = (RemoteMessage) in.readObject();
-            Object argument = in.readObject();
-            int endOfMessage = in.read();
-
-            // decode the received commandline arguments
-            if (type == RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS) {
-                for (int i = 0; i < ((String[]) argument).length; i++) {
-                    ((String[]) argument)[i] = URLDecoder.decode(((String[]) argument)[i], StandardCharsets.UTF_8);
+        int length = in.readInt();
+        if ((length < 1) || (length > MAX_FRAME_LENGTH)) {
+            throw new IOException("Invalid length of message: " + length);
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+
+        DataInputStream payloadIn = new DataInputStream(new ByteArrayInputStream(payload));
+        int typeIndex = payloadIn.readUnsignedByte();
+        if (typeIndex >= RemoteMessage.values().length) {
+            throw new IOException("Unknown type of message: " + typeIndex);
+        }
+        RemoteMessage type = RemoteMessage.values()[typeIndex];
+        Object argument = switch (type) {
+            case SEND_COMMAND_LINE_ARGUMENTS ->
+                    readStrings(payloadIn);
+            case SEND_COMMAND_LINE_ARGUMENTS_BATCH -> {
+                String[][] batch = new String[readLength(payloadIn)][];
+                for (int i = 0; i < batch.length; i++) {
+                    batch[i] = readStrings(payloadIn);
                 }
+                yield batch;
             }
+            case PONG ->
+                    readString(payloadIn);
+            case OK, PING ->
+                    null;
+        };
+
+        if (payloadIn.available() > 0) {
+            throw new IOException("Message " + type + " has " + payloadIn.available() + " unexpected trailing bytes");
+        }
+        return new Pair<>(type, argument);
+    }
 
-            if (endOfMessage != '\0') {
-                throw new IOException("Message didn't end on correct end of message identifier. Got " + endOfMessage);
-            }
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] strings) throws IOException {
+        out.writeInt(strings.length);
+        for (String string : strings) {
+            writeString(out, string);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String[] readStrings(DataInputStream in) throws IOException {
+        String[] strings = new String[readLength(in)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(in);
+        }
+        return strings;
+    }
 
-            return new Pair<>(type, argument);
-        } catch (ClassNotFoundException e) {
-            throw new IOException("Could not deserialize message", e);
+    /**
+     * Reads a length, which cannot exceed the remaining bytes of the (already completely read) message
+     */
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if ((length < 0) || (length > in.available())) {
+            throw new IOException("Invalid length in message: " + length);
         }
+        return length;
     }
 
     @Override
@@ -92,16 +170,13 @@ public class Protocol implements AutoCloseable {
         try {
             out.close();
         } catch (IOException e) {
-            // On the server side, the socket is automatically closed, thus we don't need to close it here.
-            // See org.jabref.logic.remote.server.RemoteListenerServer.run
+            // The socket might have been closed by the peer already
             LOGGER.debug("Output stream not closed", e);
         }
 
         try {
             socket.close();
         } catch (IOException e) {
-            // On the server side, the socket is automatically closed, thus we don't need to close it here.
-            // See org.jabref.logic.remote.server.RemoteListenerServer.run
             LOGGER.debug("Socket not closed", e);
         }
     }
@@ -1,5 +1,9 @@
 package org.jabref.logic.remote;
 
+/**
+ * The messages exchanged by {@link Protocol}. The position of a message identifies it on the wire, thus new messages
+ * have to be added at the end.
+ */
 public enum RemoteMessage {
     /**
      * Send command line arguments. The message content is of type {@code String[]}.
@@ -16,5 +20,10 @@ public enum RemoteMessage {
     /**
      * Request server to identify itself. No message content.
      */
-    PING
+    PING,
+    /**
+     * Send several sets of command line arguments at once, e.g., to import many files. The message content is of type
+     * {@code String[][]}.
+     */
+    SEND_COMMAND_LINE_ARGUMENTS_BATCH
 }
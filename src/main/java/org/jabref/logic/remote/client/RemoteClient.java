@@ -3,6 +3,7 @@ package org.jabref.logic.remote.client;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.util.List;
 
 import javafx.util.Pair;
 
@@ -14,7 +15,11 @@ import org.jabref.logic.remote.RemotePreferences;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class RemoteClient {
+/**
+ * Sends messages to a running JabRef instance. The connection is opened with the first message and reused for the
+ * following ones until the client is closed.
+ */
+public class RemoteClient implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RemoteClient.class);
 
@@ -23,14 +28,15 @@ public class RemoteClient {
 
     private final int port;
 
+    private Protocol connection;
+
     public RemoteClient(int port) {
         this.port = port;
     }
 
-    public boolean ping() {
-        try (Protocol protocol = openNewConnection()) {
-            protocol.sendMessage(RemoteMessage.PING);
-            Pair<RemoteMessage, Object> response = protocol.receiveMessage();
+    public synchronized boolean ping() {
+        try {
+            Pair<RemoteMessage, Object> response = send(RemoteMessage.PING, null);
 
             if ((response.getKey() == RemoteMessage.PONG) && Protocol.IDENTIFIER.equals(response.getValue())) {
                 return true;
@@ -38,6 +44,7 @@ public class RemoteClient {
                 String port = String.valueOf(this.port);
                 String errorMessage = Localization.lang("Cannot use port %0 for remote operation; another application may be using it. Try specifying another port.", port);
                 LOGGER.error(errorMessage);
+                close();
                 return false;
             }
         } catch (IOException e) {
@@ -52,10 +59,9 @@ public class RemoteClient {
      * @param args command line arguments.
      * @return true if successful, false otherwise.
      */
-    public boolean sendCommandLineArguments(String[] args) {
-        try (Protocol protocol = openNewConnection()) {
-            protocol.sendMessage(RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS, args);
-            Pair<RemoteMessage, Object> response = protocol.receiveMessage();
+    public synchronized boolean sendCommandLineArguments(String[] args) {
+        try {
+            Pair<RemoteMessage, Object> response = send(RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS, args);
             return response.getKey() == RemoteMessage.OK;
         } catch (IOException e) {
             LOGGER.debug("Could not send args {} to the server at port {}", String.join(", ", args), port, e);
@@ -63,10 +69,71 @@ public class RemoteClient {
         }
     }
 
+    /**
+     * Attempt to send several sets of command line arguments to already running JabRef instance in a single message,
+     * e.g., to import many files.
+     *
+     * @param batch the command line arguments of each command.
+     * @return true if successful, false otherwise.
+     */
+    public synchronized boolean sendCommandLineArguments(List<String[]> batch) {
+        try {
+            Pair<RemoteMessage, Object> response = send(RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS_BATCH, batch.toArray(String[][]::new));
+            return response.getKey() == RemoteMessage.OK;
+        } catch (IOException e) {
+            LOGGER.debug("Could not send {} sets of args to the server at port {}", batch.size(), port, e);
+            return false;
+        }
+    }
+
+    /**
+     * Sends the message and waits for the response.
+     * <p>
+     * The connection opened for a previous message might not be usable anymore (e.g., because the server closed it
+     * after being idle). Thus, a reused connection is probed by a ping first and replaced by a new one if the ping
+     * fails. A message which might have reached the server is never sent again, so that a command is not executed twice.
+     */
+    private Pair<RemoteMessage, Object> send(RemoteMessage type, Object argument) throws IOException {
+        if ((connection != null) && !isConnectionUsable()) {
+            close();
+        }
+        try {
+            return exchange(type, argument);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private boolean isConnectionUsable() {
+        try {
+            return exchange(RemoteMessage.PING, null).getKey() == RemoteMessage.PONG;
+        } catch (IOException e) {
+            LOGGER.debug("Connection to the server at port {} was lost, reconnecting", port, e);
+            return false;
+        }
+    }
+
+    private Pair<RemoteMessage, Object> exchange(RemoteMessage type, Object argument) throws IOException {
+        if (connection == null) {
+            connection = openNewConnection();
+        }
+        connection.sendMessage(type, argument);
+        return connection.receiveMessage();
+    }
+
     private Protocol openNewConnection() throws IOException {
         Socket socket = new Socket();
         socket.setSoTimeout(TIMEOUT);
         socket.connect(new InetSocketAddress(RemotePreferences.getIpAddress(), port), TIMEOUT);
         return new Protocol(socket);
     }
+
+    @Override
+    public synchronized void close() {
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
 }
@@ -1,9 +1,16 @@
 package org.jabref.logic.remote.server;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javafx.util.Pair;
 
@@ -14,15 +21,28 @@ import org.jabref.logic.remote.RemotePreferences;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Accepts connections of {@link org.jabref.logic.remote.client.RemoteClient}s. Each connection is served on its own
+ * virtual thread and stays open for further messages until the client closes it or is idle for too long. Thus,
+ * clients sending many commands neither wait for each other's connections nor set up a connection per command.
+ * <p>
+ * The messages are passed to the {@link RemoteMessageHandler} one after another, also if they arrive on different
+ * connections at the same time.
+ */
 public class RemoteListenerServer implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(RemoteListenerServer.class);
 
-    private static final int BACKLOG = 1;
+    private static final int BACKLOG = 50;
 
-    private static final int TIMEOUT = 1000;
+    /**
+     * Connections without a message for this time are closed
+     */
+    private static final int IDLE_TIMEOUT = 60_000;
 
     private final RemoteMessageHandler messageHandler;
     private final ServerSocket serverSocket;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final Lock messageHandlerLock = new ReentrantLock();
 
     public RemoteListenerServer(RemoteMessageHandler messageHandler, int port) throws IOException {
         this.serverSocket = new ServerSocket(port, BACKLOG, RemotePreferences.getIpAddress());
@@ -33,23 +53,49 @@ public class RemoteListenerServer implements Runnable {
     public void run() {
         try {
             while (!Thread.interrupted()) {
-                try (Socket socket = serverSocket.accept()) {
-                    socket.setSoTimeout(TIMEOUT);
-                    try (Protocol protocol = new Protocol(socket)) {
-                        Pair<RemoteMessage, Object> input = protocol.receiveMessage();
-                        handleMessage(protocol, input.getKey(), input.getValue());
-                    }
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
                 } catch (SocketException ex) {
                     return;
                 } catch (IOException e) {
                     LOGGER.warn("RemoteListenerServer crashed", e);
+                    continue;
                 }
+                connections.add(socket);
+                if (serverSocket.isClosed()) {
+                    // closeServerSocket ran before the connection was registered
+                    closeConnection(socket);
+                    return;
+                }
+                Thread.ofVirtual()
+                      .name("JabRef - Remote connection from " + socket.getRemoteSocketAddress())
+                      .start(() -> serve(socket));
             }
         } finally {
             closeServerSocket();
         }
     }
 
+    private void serve(Socket socket) {
+        try (Protocol protocol = new Protocol(socket)) {
+            socket.setSoTimeout(IDLE_TIMEOUT);
+            while (!socket.isClosed()) {
+                Pair<RemoteMessage, Object> input = protocol.receiveMessage();
+                handleMessage(protocol, input.getKey(), input.getValue());
+            }
+        } catch (EOFException | SocketTimeoutException e) {
+            LOGGER.debug("Remote connection closed", e);
+        } catch (SocketException e) {
+            // Closed by closeServerSocket
+            LOGGER.debug("Remote connection closed", e);
+        } catch (IOException e) {
+            LOGGER.warn("Could not handle remote message", e);
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
     private void handleMessage(Protocol protocol, RemoteMessage type, Object argument) throws IOException {
         switch (type) {
             case PING:
@@ -57,22 +103,55 @@ public class RemoteListenerServer implements Runnable {
                 break;
             case SEND_COMMAND_LINE_ARGUMENTS:
                 if (argument instanceof String[] strings) {
-                    messageHandler.handleCommandLineArguments(strings);
+                    handleInOrder(() -> messageHandler.handleCommandLineArguments(strings));
                     protocol.sendMessage(RemoteMessage.OK);
                 } else {
                     throw new IOException("Argument for 'SEND_COMMAND_LINE_ARGUMENTS' is not of type String[]. Got " + argument);
                 }
                 break;
+            case SEND_COMMAND_LINE_ARGUMENTS_BATCH:
+                if (argument instanceof String[][] batch) {
+                    handleInOrder(() -> messageHandler.handleCommandLineArgumentsBatch(Arrays.asList(batch)));
+                    protocol.sendMessage(RemoteMessage.OK);
+                } else {
+                    throw new IOException("Argument for 'SEND_COMMAND_LINE_ARGUMENTS_BATCH' is not of type String[][]. Got " + argument);
+                }
+                break;
             default:
                 throw new IOException("Unhandled message to server " + type);
         }
     }
 
+    /**
+     * Runs the handling of a command. A failure is logged only: the command was received, thus the client is answered
+     * as usual and must not send it again.
+     */
+    private void handleInOrder(Runnable handling) {
+        // A lock instead of synchronized does not pin the carrier thread of the waiting virtual threads
+        messageHandlerLock.lock();
+        try {
+            handling.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not handle remote command", e);
+        } finally {
+            messageHandlerLock.unlock();
+        }
+    }
+
     public void closeServerSocket() {
         try {
             serverSocket.close();
         } catch (IOException e) {
             LOGGER.warn("Unable to close server socket", e);
         }
+        connections.forEach(RemoteListenerServer::closeConnection);
+    }
+
+    private static void closeConnection(Socket connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            LOGGER.debug("Unable to close remote connection", e);
+        }
     }
 }
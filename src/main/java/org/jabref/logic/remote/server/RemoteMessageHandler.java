@@ -1,6 +1,16 @@
 package org.jabref.logic.remote.server;
 
+import java.util.List;
+
 @FunctionalInterface
 public interface RemoteMessageHandler {
     void handleCommandLineArguments(String[] message);
+
+    /**
+     * Handles several sets of command line arguments received at once. Implementations can override this to, e.g.,
+     * update the ui only once for all of them.
+     */
+    default void handleCommandLineArgumentsBatch(List<String[]> messages) {
+        messages.forEach(this::handleCommandLineArguments);
+    }
 }
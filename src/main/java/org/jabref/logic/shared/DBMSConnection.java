@@ -16,8 +16,11 @@ public class DBMSConnection implements DatabaseConnection {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSConnection.class);
 
+    private static final int MAX_POOLED_CONNECTIONS = 4;
+
     private final Connection connection;
     private final DBMSConnectionProperties properties;
+    private final DBMSConnectionPool connectionPool;
 
     public DBMSConnection(DBMSConnectionProperties connectionProperties) throws SQLException, InvalidDBMSConnectionPropertiesException {
         if (!connectionProperties.isValid()) {
@@ -31,17 +34,22 @@ public class DBMSConnection implements DatabaseConnection {
             // we use the side effect of getAvailableDBMSTypes() - it loads all available drivers
             DBMSConnection.getAvailableDBMSTypes();
 
-            if (connectionProperties.isUseExpertMode()) {
-                this.connection = DriverManager.getConnection(connectionProperties.getJdbcUrl(), connectionProperties.asProperties());
-            } else {
-                this.connection = DriverManager.getConnection(connectionProperties.getUrl(), connectionProperties.asProperties());
-            }
+            this.connection = openConnection();
         } catch (SQLException e) {
             // Some systems like PostgreSQL retrieves 0 to every exception.
             // Therefore a stable error determination is not possible.
             LOGGER.error("Could not connect to database: {} - Error code: {}", e.getMessage(), e.getErrorCode(), e);
             throw e;
         }
+        this.connectionPool = new DBMSConnectionPool(this::openConnection, MAX_POOLED_CONNECTIONS);
+    }
+
+    private Connection openConnection() throws SQLException {
+        if (properties.isUseExpertMode()) {
+            return DriverManager.getConnection(properties.getJdbcUrl(), properties.asProperties());
+        } else {
+            return DriverManager.getConnection(properties.getUrl(), properties.asProperties());
+        }
     }
 
     @Override
@@ -49,6 +57,11 @@ public class DBMSConnection implements DatabaseConnection {
         return this.connection;
     }
 
+    @Override
+    public DBMSConnectionPool getConnectionPool() {
+        return this.connectionPool;
+    }
+
     @Override
     public DBMSConnectionProperties getProperties() {
         return this.properties;
@@ -0,0 +1,187 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Small pool of connections to a shared database. Each thread working with the shared database (e.g., the UI applying
+ * local changes and the notification listener pulling remote changes) uses its own connection. Thus, they do not wait
+ * for each other and their transactions do not interfere.
+ * <p>
+ * Connections are opened on demand, at most {@code maxConnections} at once. Every connection caches the prepared
+ * statements of the queries which are used repeatedly (see {@link PooledConnection#prepareCachedStatement(String)}).
+ */
+public class DBMSConnectionPool implements AutoCloseable {
+
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection openConnection() throws SQLException;
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DBMSConnectionPool.class);
+
+    private static final int MAX_CACHED_STATEMENTS = 32;
+    private static final int VALIDATION_TIMEOUT_IN_SECONDS = 2;
+
+    /**
+     * A physical connection together with its prepared statements
+     */
+    private static class CachingConnection {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > MAX_CACHED_STATEMENTS) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        CachingConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        void close() {
+            statements.values().forEach(DBMSConnectionPool::closeQuietly);
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.debug("Could not close pooled connection", e);
+            }
+        }
+    }
+
+    private final ConnectionFactory connectionFactory;
+    private final Semaphore permits;
+
+    /**
+     * Guarded by {@code this}
+     */
+    private final Deque<CachingConnection> idleConnections = new ArrayDeque<>();
+    private boolean closed;
+
+    DBMSConnectionPool(ConnectionFactory connectionFactory, int maxConnections) {
+        this.connectionFactory = connectionFactory;
+        this.permits = new Semaphore(maxConnections, true);
+    }
+
+    /**
+     * Returns a connection for exclusive use until the returned {@link PooledConnection} is closed. Waits if all
+     * connections are in use.
+     */
+    public PooledConnection acquire() throws SQLException {
+        permits.acquireUninterruptibly();
+        try {
+            CachingConnection cachingConnection;
+            synchronized (this) {
+                if (closed) {
+                    throw new SQLException("Connection pool is closed");
+                }
+                cachingConnection = idleConnections.pollFirst();
+            }
+            if ((cachingConnection != null) && !cachingConnection.connection.isValid(VALIDATION_TIMEOUT_IN_SECONDS)) {
+                cachingConnection.close();
+                cachingConnection = null;
+            }
+            if (cachingConnection == null) {
+                cachingConnection = new CachingConnection(connectionFactory.openConnection());
+            }
+            return new PooledConnection(cachingConnection);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(CachingConnection cachingConnection) {
+        boolean reusable;
+        try {
+            reusable = cachingConnection.connection.getAutoCommit() && !cachingConnection.connection.isClosed();
+        } catch (SQLException e) {
+            reusable = false;
+        }
+        synchronized (this) {
+            if (reusable && !closed) {
+                idleConnections.addFirst(cachingConnection);
+                cachingConnection = null;
+            }
+        }
+        if (cachingConnection != null) {
+            cachingConnection.close();
+        }
+        permits.release();
+    }
+
+    /**
+     * Closes all idle connections. Connections in use are closed when they are released.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            idleConnections.forEach(CachingConnection::close);
+            idleConnections.clear();
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not close prepared statement", e);
+        }
+    }
+
+    /**
+     * A connection acquired from the pool. Closing it returns the connection to the pool.
+     */
+    public class PooledConnection implements AutoCloseable {
+
+        private final CachingConnection cachingConnection;
+        private boolean released;
+
+        private PooledConnection(CachingConnection cachingConnection) {
+            this.cachingConnection = cachingConnection;
+        }
+
+        public Connection getConnection() {
+            return cachingConnection.connection;
+        }
+
+        /**
+         * Returns a prepared statement for the given query, which is reused for the same query on this connection.
+         * Do not close the returned statement. Use {@link Connection#prepareStatement(String)} for queries that vary,
+         * e.g., by the number of parameters.
+         */
+        public PreparedStatement prepareCachedStatement(String query) throws SQLException {
+            PreparedStatement statement = cachingConnection.statements.get(query);
+            if ((statement == null) || statement.isClosed()) {
+                statement = cachingConnection.connection.prepareStatement(query);
+                cachingConnection.statements.put(query, statement);
+            } else {
+                statement.clearParameters();
+            }
+            return statement;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(cachingConnection);
+            }
+        }
+    }
+}
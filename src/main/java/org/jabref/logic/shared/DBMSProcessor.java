@@ -5,6 +5,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -19,6 +20,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.logic.shared.listener.LiveUpdatePayload;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.SharedBibEntryData;
 import org.jabref.model.entry.event.EntriesEventSource;
@@ -40,12 +42,19 @@ public abstract class DBMSProcessor {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    /**
+     * Used for setting up the tables and for sending and listening for notifications. Entries and meta data are read and
+     * written using connections of {@link #connectionPool}.
+     */
     protected final Connection connection;
 
+    protected final DBMSConnectionPool connectionPool;
+
     protected DatabaseConnectionProperties connectionProperties;
 
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
+        this.connectionPool = dbmsConnection.getConnectionPool();
         this.connectionProperties = dbmsConnection.getProperties();
     }
 
@@ -164,20 +173,35 @@ public abstract class DBMSProcessor {
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
     public void insertEntries(List<BibEntry> bibEntries) {
-        List<BibEntry> notYetExistingEntries = getNotYetExistingEntries(bibEntries);
-        if (notYetExistingEntries.isEmpty()) {
+        List<BibEntry> notYetExistingEntries;
+        try (DBMSConnectionPool.PooledConnection pooledConnection = connectionPool.acquire()) {
+            notYetExistingEntries = getNotYetExistingEntries(pooledConnection.getConnection(), bibEntries);
+            if (notYetExistingEntries.isEmpty()) {
+                return;
+            }
+            insertIntoEntryTable(pooledConnection.getConnection(), notYetExistingEntries);
+            insertIntoFieldTable(pooledConnection.getConnection(), notYetExistingEntries);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+
+        Map<Integer, Integer> insertedEntries = new HashMap<>();
+        for (BibEntry entry : notYetExistingEntries) {
+            if (entry.getSharedBibEntryData().getSharedID() != -1) {
+                insertedEntries.put(entry.getSharedBibEntryData().getSharedID(), entry.getSharedBibEntryData().getVersion());
+            }
+        }
+        notifyClients(insertedEntries);
     }
 
     /**
      * Inserts the given List of BibEntry into the ENTRY table.
      *
+     * @param connection the pooled connection to use
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(Connection connection, List<BibEntry> bibEntries) {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -216,7 +240,7 @@ public abstract class DBMSProcessor {
      * @param bibEntries {@link BibEntry} to be checked
      * @return <code>true</code> if existent, else <code>false</code>
      */
-    private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
+    private List<BibEntry> getNotYetExistingEntries(Connection connection, List<BibEntry> bibEntries) {
         List<Integer> remoteIds = new ArrayList<>();
         List<Integer> localIds = bibEntries.stream()
                                            .map(BibEntry::getSharedBibEntryData)
@@ -230,7 +254,8 @@ public abstract class DBMSProcessor {
             String selectQuery = "SELECT * FROM " +
                     escape_Table("ENTRY");
 
-            try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery)) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(selectQuery)) {
                 while (resultSet.next()) {
                     int id = resultSet.getInt("SHARED_ID");
                     remoteIds.add(id);
@@ -247,9 +272,10 @@ public abstract class DBMSProcessor {
     /**
      * Inserts the given list of BibEntry into FIELD table.
      *
+     * @param connection the pooled connection to use
      * @param bibEntries {@link BibEntry} to be inserted
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
+    protected void insertIntoFieldTable(Connection connection, List<BibEntry> bibEntries) {
         try {
             // Inserting into FIELD table
             // Coerce to ArrayList in order to use List.get()
@@ -302,10 +328,18 @@ public abstract class DBMSProcessor {
      * @throws SQLException in case of error
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+        try (DBMSConnectionPool.PooledConnection pooledConnection = connectionPool.acquire()) {
+            updateEntry(pooledConnection, localBibEntry);
+        }
+    }
+
+    private void updateEntry(DBMSConnectionPool.PooledConnection pooledConnection, BibEntry localBibEntry) throws OfflineLockException, SQLException {
+        Connection connection = pooledConnection.getConnection();
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
         try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
+            List<BibEntry> sharedEntries = getSharedEntries(pooledConnection, Collections.singletonList(localBibEntry.getSharedBibEntryData().getSharedID()));
+            Optional<BibEntry> sharedEntryOptional = sharedEntries.stream().findFirst();
 
             if (sharedEntryOptional.isEmpty()) {
                 return;
@@ -314,12 +348,12 @@ public abstract class DBMSProcessor {
             BibEntry sharedBibEntry = sharedEntryOptional.get();
 
             // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
+            removeSharedFieldsByDifference(pooledConnection, localBibEntry, sharedBibEntry);
 
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
+                insertOrUpdateFields(pooledConnection, localBibEntry, sharedBibEntry);
 
                 // updating entry type
                 String updateEntryTypeQuery = "UPDATE " +
@@ -334,13 +368,13 @@ public abstract class DBMSProcessor {
                         escape("SHARED_ID") +
                         " = ?";
 
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
+                PreparedStatement preparedUpdateEntryTypeStatement = pooledConnection.prepareCachedStatement(updateEntryTypeQuery);
+                preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+                preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedUpdateEntryTypeStatement.executeUpdate();
 
                 connection.commit(); // apply all changes in current transaction
+                notifyClients(Map.of(localBibEntry.getSharedBibEntryData().getSharedID(), sharedBibEntry.getSharedBibEntryData().getVersion() + 1));
             } else {
                 throw new OfflineLockException(localBibEntry, sharedBibEntry);
             }
@@ -355,93 +389,89 @@ public abstract class DBMSProcessor {
     /**
      * Helping method. Removes shared fields which do not exist locally
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+    private void removeSharedFieldsByDifference(DBMSConnectionPool.PooledConnection pooledConnection, BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
         Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
         nullFields.removeAll(localBibEntry.getFields());
+        if (nullFields.isEmpty()) {
+            return;
+        }
+        String deleteFieldQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+
+        PreparedStatement preparedDeleteFieldStatement = pooledConnection.prepareCachedStatement(deleteFieldQuery);
         for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
+            preparedDeleteFieldStatement.setString(1, nullField.getName());
+            preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+            preparedDeleteFieldStatement.addBatch();
         }
+        preparedDeleteFieldStatement.executeBatch();
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Helping method. Inserts a key-value pair into FIELD table for every local field not existing in the shared entry.
+     * Fields with a different value are updated. Fields having the same value in the shared entry are not sent at all.
+     * The inserts and the updates are each sent as one batch.
+     *
+     * @param sharedBibEntry the current state of the entry in the shared database
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+    private void insertOrUpdateFields(DBMSConnectionPool.PooledConnection pooledConnection, BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+        Map<Field, String> insertedFields = new HashMap<>();
+        Map<Field, String> updatedFields = new HashMap<>();
+        for (Map.Entry<Field, String> localField : localBibEntry.getFieldMap().entrySet()) {
+            Optional<String> sharedValue = sharedBibEntry.getField(localField.getKey());
+            if (sharedValue.isEmpty()) {
+                insertedFields.put(localField.getKey(), localField.getValue());
+            } else if (!sharedValue.get().equals(localField.getValue())) {
+                updatedFields.put(localField.getKey(), localField.getValue());
             }
+        }
 
-            String selectFieldQuery = "SELECT * FROM " +
+        if (!updatedFields.isEmpty()) {
+            String updateFieldQuery = "UPDATE " +
                     escape_Table("FIELD") +
-                    " WHERE " +
+                    " SET " +
+                    escape("VALUE") +
+                    " = ? WHERE " +
                     escape("NAME") +
                     " = ? AND " +
                     escape("ENTRY_SHARED_ID") +
                     " = ?";
 
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
+            PreparedStatement preparedUpdateFieldStatement = pooledConnection.prepareCachedStatement(updateFieldQuery);
+            for (Map.Entry<Field, String> updatedField : updatedFields.entrySet()) {
+                preparedUpdateFieldStatement.setString(1, updatedField.getValue());
+                preparedUpdateFieldStatement.setString(2, updatedField.getKey().getName());
+                preparedUpdateFieldStatement.setInt(3, sharedID);
+                preparedUpdateFieldStatement.addBatch();
+            }
+            preparedUpdateFieldStatement.executeBatch();
+        }
+
+        if (!insertedFields.isEmpty()) {
+            String insertFieldQuery = "INSERT INTO " +
+                    escape_Table("FIELD") +
+                    "(" +
+                    escape("ENTRY_SHARED_ID") +
+                    ", " +
+                    escape("NAME") +
+                    ", " +
+                    escape("VALUE") +
+                    ") VALUES(?, ?, ?)";
+
+            PreparedStatement preparedFieldStatement = pooledConnection.prepareCachedStatement(insertFieldQuery);
+            for (Map.Entry<Field, String> insertedField : insertedFields.entrySet()) {
+                preparedFieldStatement.setInt(1, sharedID);
+                preparedFieldStatement.setString(2, insertedField.getKey().getName());
+                preparedFieldStatement.setString(3, insertedField.getValue());
+                preparedFieldStatement.addBatch();
             }
+            preparedFieldStatement.executeBatch();
         }
     }
 
@@ -464,11 +494,16 @@ public abstract class DBMSProcessor {
         query.append("?, ".repeat(bibEntries.size() - 1));
         query.append("?)");
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+        try (DBMSConnectionPool.PooledConnection pooledConnection = connectionPool.acquire();
+             PreparedStatement preparedStatement = pooledConnection.getConnection().prepareStatement(query.toString())) {
             for (int j = 0; j < bibEntries.size(); j++) {
                 preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
             }
             preparedStatement.executeUpdate();
+            notifyClients(bibEntries.stream().collect(Collectors.toMap(
+                    entry -> entry.getSharedBibEntryData().getSharedID(),
+                    entry -> LiveUpdatePayload.REMOVED,
+                    (first, second) -> first)));
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
@@ -511,8 +546,15 @@ public abstract class DBMSProcessor {
     public List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
         Objects.requireNonNull(sharedIDs);
 
-        List<BibEntry> sharedEntries = new ArrayList<>();
+        try (DBMSConnectionPool.PooledConnection pooledConnection = connectionPool.acquire()) {
+            return getSharedEntries(pooledConnection, sharedIDs);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            return Collections.emptyList();
+        }
+    }
 
+    private List<BibEntry> getSharedEntries(DBMSConnectionPool.PooledConnection pooledConnection, List<Integer> sharedIDs) {
         StringBuilder query = new StringBuilder();
         query.append("SELECT ")
              .append(escape_Table("ENTRY")).append(".").append(escape("SHARED_ID")).append(", ")
@@ -539,38 +581,49 @@ public abstract class DBMSProcessor {
         query.append(" order by ")
              .append(escape("SHARED_ID"));
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int i = 0; i < sharedIDs.size(); i++) {
-                preparedStatement.setInt(i + 1, sharedIDs.get(i));
+        try {
+            if (sharedIDs.size() == 1) {
+                // A single entry is fetched for every update of an entry
+                return readSharedEntries(pooledConnection.prepareCachedStatement(query.toString()), sharedIDs);
             }
-
-            try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
-                BibEntry bibEntry = null;
-                int lastId = -1;
-                while (selectEntryResultSet.next()) {
-                    // We get a list of field values of bib entries "grouped" by bib entries
-                    // Thus, the first change in the shared id leads to a new BibEntry
-                    if (selectEntryResultSet.getInt("SHARED_ID") > lastId) {
-                        bibEntry = new BibEntry();
-                        bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
-                        bibEntry.setType(EntryTypeFactory.parse(selectEntryResultSet.getString("TYPE")));
-                        bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
-                        sharedEntries.add(bibEntry);
-                        lastId = selectEntryResultSet.getInt("SHARED_ID");
-                    }
-
-                    // In all cases, we set the field value of the newly created BibEntry object
-                    String value = selectEntryResultSet.getString("VALUE");
-                    if (value != null && bibEntry != null) {
-                        bibEntry.setField(FieldFactory.parseField(selectEntryResultSet.getString("NAME")), value, EntriesEventSource.SHARED);
-                    }
-                }
+            try (PreparedStatement preparedStatement = pooledConnection.getConnection().prepareStatement(query.toString())) {
+                return readSharedEntries(preparedStatement, sharedIDs);
             }
         } catch (SQLException e) {
             LOGGER.error("Executed >{}<", query);
             LOGGER.error("SQL Error", e);
             return Collections.emptyList();
         }
+    }
+
+    private List<BibEntry> readSharedEntries(PreparedStatement preparedStatement, List<Integer> sharedIDs) throws SQLException {
+        List<BibEntry> sharedEntries = new ArrayList<>();
+        for (int i = 0; i < sharedIDs.size(); i++) {
+            preparedStatement.setInt(i + 1, sharedIDs.get(i));
+        }
+
+        try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
+            BibEntry bibEntry = null;
+            int lastId = -1;
+            while (selectEntryResultSet.next()) {
+                // We get a list of field values of bib entries "grouped" by bib entries
+                // Thus, the first change in the shared id leads to a new BibEntry
+                if (selectEntryResultSet.getInt("SHARED_ID") > lastId) {
+                    bibEntry = new BibEntry();
+                    bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
+                    bibEntry.setType(EntryTypeFactory.parse(selectEntryResultSet.getString("TYPE")));
+                    bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
+                    sharedEntries.add(bibEntry);
+                    lastId = selectEntryResultSet.getInt("SHARED_ID");
+                }
+
+                // In all cases, we set the field value of the newly created BibEntry object
+                String value = selectEntryResultSet.getString("VALUE");
+                if (value != null && bibEntry != null) {
+                    bibEntry.setField(FieldFactory.parseField(selectEntryResultSet.getString("NAME")), value, EntriesEventSource.SHARED);
+                }
+            }
+        }
 
         return sharedEntries;
     }
@@ -579,6 +632,42 @@ public abstract class DBMSProcessor {
         return getSharedEntries(Collections.emptyList());
     }
 
+    /**
+     * Summary of the ENTRY table. As the versions of the entries only increase and the shared IDs of new entries are
+     * higher than all previous ones, the summary changes whenever an entry is inserted, updated or removed.
+     *
+     * @param maxSharedID the highest shared ID, 0 if there are no entries
+     * @param versionSum  the sum of the versions of all entries
+     */
+    public record EntryTableSummary(long entryCount, int maxSharedID, long versionSum) {
+    }
+
+    /**
+     * Retrieves the summary of the shared entries with a single aggregate query. This allows checking for changes of
+     * the shared entries without fetching the version of each entry.
+     *
+     * @return the summary, empty in case of an error
+     */
+    public Optional<EntryTableSummary> getEntryTableSummary() {
+        String summaryQuery = "SELECT COUNT(*), MAX(" +
+                escape("SHARED_ID") +
+                "), SUM(" +
+                escape("VERSION") +
+                ") FROM " +
+                escape_Table("ENTRY");
+
+        try (DBMSConnectionPool.PooledConnection pooledConnection = connectionPool.acquire();
+             ResultSet summaryResultSet = pooledConnection.prepareCachedStatement(summaryQuery).executeQuery()) {
+            if (summaryResultSet.next()) {
+                // MAX and SUM are NULL for an empty table, which getInt and getLong return as 0
+                return Optional.of(new EntryTableSummary(summaryResultSet.getLong(1), summaryResultSet.getInt(2), summaryResultSet.getLong(3)));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Retrieves a mapping between the columns SHARED_ID and VERSION.
      */
@@ -589,7 +678,8 @@ public abstract class DBMSProcessor {
                 " ORDER BY " +
                 escape("SHARED_ID");
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery)) {
+        try (DBMSConnectionPool.PooledConnection pooledConnection = connectionPool.acquire();
+             ResultSet selectEntryResultSet = pooledConnection.prepareCachedStatement(selectEntryQuery).executeQuery()) {
             while (selectEntryResultSet.next()) {
                 sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
             }
@@ -606,7 +696,8 @@ public abstract class DBMSProcessor {
     public Map<String, String> getSharedMetaData() {
         Map<String, String> data = new HashMap<>();
 
-        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT * FROM " + escape_Table("METADATA"))) {
+        try (DBMSConnectionPool.PooledConnection pooledConnection = connectionPool.acquire();
+             ResultSet resultSet = pooledConnection.prepareCachedStatement("SELECT * FROM " + escape_Table("METADATA")).executeQuery()) {
             while (resultSet.next()) {
                 data.put(resultSet.getString("KEY"), resultSet.getString("VALUE"));
             }
@@ -642,22 +733,26 @@ public abstract class DBMSProcessor {
                 .append(escape("VALUE"))
                 .append(") VALUES(?, ?)");
 
-        for (Map.Entry<String, String> metaEntry : data.entrySet()) {
-            try (PreparedStatement updateStatement = connection.prepareStatement(updateQuery.toString())) {
-                updateStatement.setString(2, metaEntry.getKey());
-                updateStatement.setString(1, metaEntry.getValue());
-                if (updateStatement.executeUpdate() == 0) {
-                    // No rows updated -> insert data
-                    try (PreparedStatement insertStatement = connection.prepareStatement(insertQuery.toString())) {
-                        insertStatement.setString(1, metaEntry.getKey());
-                        insertStatement.setString(2, metaEntry.getValue());
-                        insertStatement.executeUpdate();
-                    } catch (SQLException e) {
-                        LOGGER.error("SQL Error: ", e);
+        try (DBMSConnectionPool.PooledConnection pooledConnection = connectionPool.acquire()) {
+            for (Map.Entry<String, String> metaEntry : data.entrySet()) {
+                try {
+                    PreparedStatement updateStatement = pooledConnection.prepareCachedStatement(updateQuery.toString());
+                    updateStatement.setString(2, metaEntry.getKey());
+                    updateStatement.setString(1, metaEntry.getValue());
+                    if (updateStatement.executeUpdate() == 0) {
+                        // No rows updated -> insert data
+                        try {
+                            PreparedStatement insertStatement = pooledConnection.prepareCachedStatement(insertQuery.toString());
+                            insertStatement.setString(1, metaEntry.getKey());
+                            insertStatement.setString(2, metaEntry.getValue());
+                            insertStatement.executeUpdate();
+                        } catch (SQLException e) {
+                            LOGGER.error("SQL Error: ", e);
+                        }
                     }
+                } catch (SQLException e) {
+                    LOGGER.error("SQL Error: ", e);
                 }
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
             }
         }
     }
@@ -704,4 +799,15 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS that the given shared entries
+     * changed. Needs to be implemented if LiveUpdate of single entries is supported by the DBMS
+     *
+     * @param changedEntries the new version of each inserted or updated entry, {@link LiveUpdatePayload#REMOVED} for
+     *                       each removed entry
+     */
+    public void notifyClients(Map<Integer, Integer> changedEntries) {
+        // nothing to do
+    }
 }
@@ -20,6 +20,7 @@ import org.jabref.logic.shared.event.ConnectionLostEvent;
 import org.jabref.logic.shared.event.SharedEntriesNotPresentEvent;
 import org.jabref.logic.shared.event.UpdateRefusedEvent;
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.logic.shared.listener.LiveUpdatePayload;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
@@ -52,11 +53,14 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final BibDatabase bibDatabase;
     private final EventBus eventBus;
     private Connection currentConnection;
+    private DBMSConnectionPool connectionPool;
     private final Character keywordSeparator;
     private final GlobalCitationKeyPatterns globalCiteKeyPattern;
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
+    private Optional<DBMSProcessor.EntryTableSummary> lastSharedSummary = Optional.empty();
+    private Map<Integer, Integer> lastSharedIDVersionMapping = Map.of();
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
@@ -168,6 +172,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * The versions of the shared entries are only fetched if the shared entries changed since the last synchronization
+     * (see {@link DBMSProcessor#getEntryTableSummary()}). All outdated and new entries are fetched at once.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -176,41 +183,37 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
 
         List<BibEntry> localEntries = bibDatabase.getEntries();
-        Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
+        Optional<DBMSProcessor.EntryTableSummary> summary = dbmsProcessor.getEntryTableSummary();
+        if (summary.isEmpty() || !summary.equals(lastSharedSummary)) {
+            // The summary is read before the versions: a change in between leads to another fetch next time
+            lastSharedIDVersionMapping = dbmsProcessor.getSharedIDVersionMapping();
+            // Do not rely on versions which could not be read completely
+            lastSharedSummary = summary.filter(entryTableSummary -> entryTableSummary.entryCount() == lastSharedIDVersionMapping.size());
+        }
+        Map<Integer, Integer> idVersionMap = lastSharedIDVersionMapping;
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = indexBySharedID(localEntries);
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (matchingLocalEntries == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (matchingLocalEntries.stream().anyMatch(localEntry -> idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToUpdateInLocalDatabase)) {
+            int sharedID = sharedEntry.getSharedBibEntryData().getSharedID();
+            for (BibEntry localEntry : localEntriesBySharedID.getOrDefault(sharedID, List.of())) {
+                if (idVersionMap.get(sharedID) > localEntry.getSharedBibEntryData().getVersion()) {
+                    updateLocalEntry(localEntry, sharedEntry);
+                }
             }
         }
 
@@ -220,6 +223,75 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Applies the changes of the given shared entries, which were announced by another client. Only these entries are
+     * fetched from the shared database.
+     *
+     * @param changedEntries the new version of each changed entry, {@link LiveUpdatePayload#REMOVED} for each removed
+     *                       entry
+     */
+    public void pullEntryChanges(Map<Integer, Integer> changedEntries) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        pullWithLastEntry();
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = indexBySharedID(bibDatabase.getEntries());
+        List<BibEntry> entriesToRemove = new ArrayList<>();
+        List<Integer> entriesToFetch = new ArrayList<>();
+        changedEntries.forEach((sharedID, version) -> {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.getOrDefault(sharedID, List.of());
+            if (version == LiveUpdatePayload.REMOVED) {
+                entriesToRemove.addAll(matchingLocalEntries);
+            } else if (matchingLocalEntries.isEmpty() || matchingLocalEntries.stream().anyMatch(localEntry -> version > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToFetch.add(sharedID);
+            }
+        });
+
+        if (!entriesToRemove.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
+            bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+        }
+
+        List<BibEntry> entriesToInsert = new ArrayList<>();
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToFetch)) {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (matchingLocalEntries == null) {
+                entriesToInsert.add(sharedEntry);
+                continue;
+            }
+            for (BibEntry localEntry : matchingLocalEntries) {
+                if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                    updateLocalEntry(localEntry, sharedEntry);
+                }
+            }
+        }
+        if (!entriesToInsert.isEmpty()) {
+            bibDatabase.insertEntries(entriesToInsert, EntriesEventSource.SHARED);
+        }
+    }
+
+    private static Map<Integer, List<BibEntry>> indexBySharedID(List<BibEntry> entries) {
+        return entries.stream().collect(Collectors.groupingBy(entry -> entry.getSharedBibEntryData().getSharedID()));
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -384,6 +456,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     public void openSharedDatabase(DatabaseConnection connection) throws DatabaseNotSupportedException {
         this.dbName = connection.getProperties().getDatabase();
         this.currentConnection = connection.getConnection();
+        this.connectionPool = connection.getConnectionPool();
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection);
         initializeDatabases();
     }
@@ -394,6 +467,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         pullLastEntryChanges();
         try {
             dbmsProcessor.stopNotificationListener();
+            connectionPool.close();
             currentConnection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error:", e);
@@ -401,7 +475,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        return bibDatabase.getEntryById(bibEntry.getId()) == bibEntry;
     }
 
     @Override
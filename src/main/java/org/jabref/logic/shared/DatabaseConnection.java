@@ -6,5 +6,13 @@ public interface DatabaseConnection {
 
     DatabaseConnectionProperties getProperties();
 
+    /**
+     * Returns the connection used for setting up the shared database and for listening for notifications.
+     */
     Connection getConnection();
+
+    /**
+     * Returns the pool of connections used for reading and writing entries and meta data.
+     */
+    DBMSConnectionPool getConnectionPool();
 }
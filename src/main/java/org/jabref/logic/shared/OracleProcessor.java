@@ -1,5 +1,6 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -133,7 +134,7 @@ public class OracleProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> entries) {
+    protected void insertIntoEntryTable(Connection connection, List<BibEntry> entries) {
         try {
             for (BibEntry entry : entries) {
                 String insertIntoEntryQuery =
@@ -162,7 +163,7 @@ public class OracleProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
+    protected void insertIntoFieldTable(Connection connection, List<BibEntry> bibEntries) {
         try {
             // Inserting into FIELD table
             // Coerce to ArrayList in order to use List.get()
@@ -1,5 +1,6 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -7,6 +8,7 @@ import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 
+import org.jabref.logic.shared.listener.LiveUpdatePayload;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
@@ -91,7 +93,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(Connection connection, List<BibEntry> bibEntries) {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -166,8 +168,20 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during client notification", e);
+        }
+    }
+
+    @Override
+    public void notifyClients(Map<Integer, Integer> changedEntries) {
+        try (Statement statement = connection.createStatement()) {
+            // The payload consists of the processor id, digits and separators only
+            for (String payload : LiveUpdatePayload.toPayloads(PROCESSOR_ID, changedEntries)) {
+                statement.execute("NOTIFY jabrefLiveUpdate, '" + payload + "';");
+            }
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
@@ -0,0 +1,83 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payload of a PostgreSQL live update notification: the processor which sent it and, optionally, the shared entries
+ * which changed.
+ * <p>
+ * The payload is {@code <processor id>} if anything may have changed (e.g., the meta data), or
+ * {@code <processor id>;<shared id>:<version>,...} if only the listed entries changed. Removed entries are listed with
+ * the version {@link #REMOVED}.
+ *
+ * @param changedEntries the new version of each changed entry, empty if anything may have changed
+ */
+public record LiveUpdatePayload(String processorId, Map<Integer, Integer> changedEntries) {
+
+    public static final int REMOVED = -1;
+
+    /**
+     * PostgreSQL limits payloads to 8000 bytes
+     */
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    public boolean isEntryChange() {
+        return !changedEntries.isEmpty();
+    }
+
+    /**
+     * Merges the given changes into this one. A removal is final, otherwise the highest version wins.
+     */
+    public static void merge(Map<Integer, Integer> changedEntries, Map<Integer, Integer> moreChangedEntries) {
+        moreChangedEntries.forEach((sharedID, version) -> changedEntries.merge(sharedID, version,
+                (first, second) -> (first == REMOVED) || (second == REMOVED) ? REMOVED : Math.max(first, second)));
+    }
+
+    /**
+     * Creates the payloads announcing the given changed entries. Many entries are split over several payloads.
+     */
+    public static List<String> toPayloads(String processorId, Map<Integer, Integer> changedEntries) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(processorId).append(';');
+        int emptyLength = payload.length();
+        for (Map.Entry<Integer, Integer> changedEntry : changedEntries.entrySet()) {
+            String change = changedEntry.getKey() + ":" + changedEntry.getValue();
+            if ((payload.length() > emptyLength) && (payload.length() + change.length() + 1 > MAX_PAYLOAD_LENGTH)) {
+                payloads.add(payload.toString());
+                payload.setLength(emptyLength);
+            }
+            if (payload.length() > emptyLength) {
+                payload.append(',');
+            }
+            payload.append(change);
+        }
+        if (payload.length() > emptyLength) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * Parses the given payload. A payload which cannot be parsed is treated as announcing any change.
+     */
+    public static LiveUpdatePayload parse(String payload) {
+        int separator = payload.indexOf(';');
+        if (separator < 0) {
+            return new LiveUpdatePayload(payload, Map.of());
+        }
+        String processorId = payload.substring(0, separator);
+        Map<Integer, Integer> changedEntries = new HashMap<>();
+        try {
+            for (String change : payload.substring(separator + 1).split(",")) {
+                int versionSeparator = change.indexOf(':');
+                changedEntries.put(Integer.parseInt(change.substring(0, versionSeparator)), Integer.parseInt(change.substring(versionSeparator + 1)));
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return new LiveUpdatePayload(processorId, Map.of());
+        }
+        return new LiveUpdatePayload(processorId, changedEntries);
+    }
+}
@@ -1,6 +1,8 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -35,11 +37,7 @@ public class PostgresSQLNotificationListener implements Runnable {
                 PGNotification[] notifications = pgConnection.getNotifications();
 
                 if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                    handle(notifications);
                 }
 
                 // Wait a while before checking again for new notifications
@@ -50,6 +48,33 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * Coalesces the notifications received since the last check. If all of them name the changed entries, only these
+     * are pulled. Otherwise, all changes are pulled.
+     */
+    private void handle(PGNotification[] notifications) {
+        boolean pullAll = false;
+        Map<Integer, Integer> changedEntries = new HashMap<>();
+        for (PGNotification notification : notifications) {
+            LiveUpdatePayload payload = LiveUpdatePayload.parse(notification.getParameter());
+            if (payload.processorId().equals(DBMSProcessor.PROCESSOR_ID)) {
+                // Sent by ourselves
+                continue;
+            }
+            if (payload.isEntryChange()) {
+                LiveUpdatePayload.merge(changedEntries, payload.changedEntries());
+            } else {
+                pullAll = true;
+            }
+        }
+
+        if (pullAll) {
+            dbmsSynchronizer.pullChanges();
+        } else if (!changedEntries.isEmpty()) {
+            dbmsSynchronizer.pullEntryChanges(changedEntries);
+        }
+    }
+
     public void stop() {
         stop = true;
     }
@@ -56,6 +56,13 @@ public class Directories {
                         OS.APP_DIR_APP_AUTHOR));
     }
 
+    public static Path getCitationsCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserCacheDir(OS.APP_DIR_APP_NAME,
+                                             "citations",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getSslDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
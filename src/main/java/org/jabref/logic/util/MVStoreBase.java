@@ -1,11 +1,9 @@
-package org.jabref.logic.ai.util;
+package org.jabref.logic.util;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
-import org.jabref.logic.util.NotificationService;
-
 import jakarta.annotation.Nullable;
 import org.h2.mvstore.MVStore;
 import org.h2.mvstore.MVStoreException;
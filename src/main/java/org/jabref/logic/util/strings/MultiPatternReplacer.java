@@ -0,0 +1,120 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Replaces all occurrences of a fixed set of strings in a single pass over the text.
+ * <p>
+ * The patterns are stored in a trie which is built once. While scanning the text, the longest pattern starting at the
+ * current position is replaced and scanning continues after it. Thus, matches do not overlap and replaced text is not
+ * scanned again. This is the same result as applying {@link String#replace(CharSequence, CharSequence)} for each
+ * pattern as long as no pattern is contained in another pattern or in a replacement.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public class MultiPatternReplacer {
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        // Replacement of the pattern ending at this node, null if no pattern ends here
+        private String replacement;
+
+        private Node getChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrAddChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertionPoint = -(index + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertionPoint);
+            System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+            System.arraycopy(keys, insertionPoint, newKeys, insertionPoint + 1, keys.length - insertionPoint);
+            System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1, children.length - insertionPoint);
+            Node child = new Node();
+            newKeys[insertionPoint] = c;
+            newChildren[insertionPoint] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+
+    private final Node root = new Node();
+    private final BitSet firstChars = new BitSet();
+
+    /**
+     * @param replacements maps each pattern to its replacement. Patterns must not be empty.
+     */
+    public MultiPatternReplacer(Map<String, String> replacements) {
+        for (Map.Entry<String, String> patternAndReplacement : replacements.entrySet()) {
+            String pattern = patternAndReplacement.getKey();
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Patterns must not be empty");
+            }
+
+            Node node = root;
+            for (int i = 0; i < pattern.length(); i++) {
+                node = node.getOrAddChild(pattern.charAt(i));
+            }
+            node.replacement = Objects.requireNonNull(patternAndReplacement.getValue());
+            firstChars.set(pattern.charAt(0));
+        }
+    }
+
+    /**
+     * Replaces all patterns in the given text.
+     *
+     * @return the given text itself if it does not contain any pattern
+     */
+    public String replaceAll(String text) {
+        StringBuilder result = null;
+        int copiedUpTo = 0;
+        int position = 0;
+        while (position < text.length()) {
+            if (!firstChars.get(text.charAt(position))) {
+                position++;
+                continue;
+            }
+
+            // Find the longest pattern starting at the current position
+            String replacement = null;
+            int matchEnd = position;
+            Node node = root;
+            for (int i = position; (i < text.length()) && (node != null); i++) {
+                node = node.getChild(text.charAt(i));
+                if ((node != null) && (node.replacement != null)) {
+                    replacement = node.replacement;
+                    matchEnd = i + 1;
+                }
+            }
+
+            if (replacement == null) {
+                position++;
+                continue;
+            }
+
+            if (result == null) {
+                result = new StringBuilder(text.length() + 16);
+            }
+            result.append(text, copiedUpTo, position).append(replacement);
+            position = matchEnd;
+            copiedUpTo = matchEnd;
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copiedUpTo, text.length()).toString();
+    }
+}
@@ -16,6 +16,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -33,9 +36,11 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
@@ -70,6 +75,23 @@ public class BibDatabase {
 
     private String newLineSeparator = System.lineSeparator();
 
+    /**
+     * Identifies the strings and their content. Equal states mean that strings resolve equally.
+     *
+     * @param version incremented when strings are added or removed
+     * @param modificationCount sum of {@link BibtexString#getModificationCount()} of all strings
+     */
+    record StringsState(long version, long modificationCount) {
+    }
+
+    // Incremented when strings are added or removed
+    private final AtomicLong stringsVersion = new AtomicLong();
+
+    // Incremented whenever the result of getReferencedEntry may change: entries are added or removed or a citation key changes
+    private final AtomicLong crossrefVersion = new AtomicLong();
+
+    private final ResolvedFieldCache resolvedFieldCache = new ResolvedFieldCache(this);
+
     public BibDatabase(List<BibEntry> entries, String newLineSeparator) {
         this(entries);
         this.newLineSeparator = newLineSeparator;
@@ -186,6 +208,7 @@ public class BibDatabase {
         for (BibEntry entry : newEntries) {
             entry.registerListener(this);
         }
+        crossrefVersion.incrementAndGet();
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
         } else {
@@ -193,6 +216,8 @@ public class BibDatabase {
         }
         entries.addAll(newEntries);
         newEntries.forEach(entry -> entriesId.put(entry.getId(), entry));
+        // Lookups running concurrently with the insertion might have cached a result of the old entries
+        crossrefVersion.incrementAndGet();
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -227,9 +252,12 @@ public class BibDatabase {
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
+        crossrefVersion.incrementAndGet();
         boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
         if (anyRemoved) {
             toBeDeleted.forEach(entry -> entriesId.remove(entry.getId()));
+            // Lookups running concurrently with the removal might have cached a result of the old entries
+            crossrefVersion.incrementAndGet();
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
@@ -268,6 +296,7 @@ public class BibDatabase {
         }
 
         bibtexStrings.put(id, string);
+        stringsVersion.incrementAndGet();
     }
 
     /**
@@ -278,6 +307,7 @@ public class BibDatabase {
      */
     public void setStrings(List<BibtexString> stringsToAdd) {
         bibtexStrings = new ConcurrentHashMap<>();
+        stringsVersion.incrementAndGet();
         stringsToAdd.forEach(this::addString);
     }
 
@@ -286,6 +316,7 @@ public class BibDatabase {
      */
     public void removeString(String id) {
         bibtexStrings.remove(id);
+        stringsVersion.incrementAndGet();
     }
 
     /**
@@ -560,6 +591,9 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (event.getField() == InternalField.KEY_FIELD) {
+            crossrefVersion.incrementAndGet();
+        }
         eventBus.post(event);
     }
 
@@ -567,6 +601,40 @@ public class BibDatabase {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
 
+    /**
+     * Resolves a field of the given entry (see {@link BibEntry#getResolvedFieldOrAlias(Field, BibDatabase)}) and caches
+     * the result until the entry, its crossref parent, or the strings change.
+     *
+     * @param ownValue        returns the value of the field of the entry before strings are resolved
+     * @param valueFromParent returns the value inherited from the given crossref parent before strings are resolved
+     */
+    public Optional<String> getResolvedField(BibEntry entry,
+                                             Field field,
+                                             boolean latexFree,
+                                             Supplier<Optional<String>> ownValue,
+                                             Function<BibEntry, Optional<String>> valueFromParent) {
+        return resolvedFieldCache.getResolvedField(entry, field, latexFree, ownValue, valueFromParent);
+    }
+
+    /**
+     * Returns the statistics of the cache of resolved fields. Outdated values are counted as evictions.
+     */
+    public CacheStats getResolvedFieldCacheStats() {
+        return resolvedFieldCache.getStats();
+    }
+
+    long getCrossrefVersion() {
+        return crossrefVersion.get();
+    }
+
+    StringsState getStringsState() {
+        long modificationCount = 0;
+        for (BibtexString string : bibtexStrings.values()) {
+            modificationCount += string.getModificationCount();
+        }
+        return new StringsState(stringsVersion.get(), modificationCount);
+    }
+
     public Optional<String> getSharedDatabaseID() {
         return Optional.ofNullable(this.sharedDatabaseID);
     }
@@ -0,0 +1,140 @@
+package org.jabref.model.database;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.MapMaker;
+
+/**
+ * Caches the values returned by {@link BibEntry#getResolvedFieldOrAlias(Field, BibDatabase)} (and its LaTeX-free
+ * variant) for the entries of one {@link BibDatabase}.
+ * <p>
+ * Resolving a field may look up the crossref parent (a linear search by citation key) and substitute @String
+ * references. Both are repeated for every cell of the main table, every layout and every indexed field. A cached value
+ * is only returned if nothing it was computed from changed:
+ * <ul>
+ *     <li>the entry itself ({@link BibEntry#getModificationCount()}),</li>
+ *     <li>if the value was taken from the crossref parent: which entry is the parent, which depends on the entries and
+ *     citation keys of the library, and the parent's fields,</li>
+ *     <li>if the value contained a string reference: the strings of the library.</li>
+ * </ul>
+ * Values are validated when they are read. Thus, a value read directly after a change (e.g., by a binding on the
+ * fields of the entry) is never stale.
+ */
+class ResolvedFieldCache {
+
+    private record Key(Field field, boolean latexFree) {
+    }
+
+    /**
+     * @param usesCrossref whether the entry had no value and a crossref at resolution
+     * @param parent the crossref parent the value was resolved with, null if there was none
+     * @param crossrefVersion {@link BibDatabase#getCrossrefVersion()} at resolution
+     * @param stringsState the state of the strings at resolution, null if the value did not use any string
+     */
+    private record CachedValue(Optional<String> value,
+                               long modificationCount,
+                               boolean usesCrossref,
+                               BibEntry parent,
+                               long parentModificationCount,
+                               long crossrefVersion,
+                               BibDatabase.StringsState stringsState) {
+    }
+
+    private final BibDatabase database;
+
+    // Weak keys use identity: equal entries may still be resolved differently (e.g., another crossref parent)
+    private final ConcurrentMap<BibEntry, Map<Key, CachedValue>> values = new MapMaker().weakKeys().makeMap();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    ResolvedFieldCache(BibDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * @param ownValue        returns the value of the field of the entry before strings are resolved
+     * @param valueFromParent returns the value inherited from the given crossref parent before strings are resolved
+     */
+    Optional<String> getResolvedField(BibEntry entry,
+                                      Field field,
+                                      boolean latexFree,
+                                      Supplier<Optional<String>> ownValue,
+                                      Function<BibEntry, Optional<String>> valueFromParent) {
+        Key key = new Key(field, latexFree);
+        Map<Key, CachedValue> entryValues = values.computeIfAbsent(entry, cachedEntry -> new ConcurrentHashMap<>());
+        CachedValue cachedValue = entryValues.get(key);
+        if (cachedValue != null) {
+            if (isValid(entry, cachedValue)) {
+                hits.increment();
+                return cachedValue.value();
+            }
+            invalidations.increment();
+        }
+        misses.increment();
+
+        // Read all versions before resolving: a change during resolution makes the stored value invalid
+        long modificationCount = entry.getModificationCount();
+        long crossrefVersion = database.getCrossrefVersion();
+        BibDatabase.StringsState stringsState = database.getStringsState();
+
+        Optional<String> unresolved = ownValue.get();
+        boolean usesCrossref = unresolved.isEmpty() && entry.hasField(StandardField.CROSSREF);
+        BibEntry parent = null;
+        long parentModificationCount = 0;
+        if (usesCrossref) {
+            parent = database.getReferencedEntry(entry).orElse(null);
+            if (parent != null) {
+                parentModificationCount = parent.getModificationCount();
+                unresolved = valueFromParent.apply(parent);
+            }
+        }
+        boolean usesStrings = unresolved.filter(value -> value.indexOf(FieldWriter.BIBTEX_STRING_START_END_SYMBOL) >= 0).isPresent();
+        Optional<String> value = unresolved.map(database::resolveForStrings);
+
+        entryValues.put(key, new CachedValue(
+                value,
+                modificationCount,
+                usesCrossref,
+                parent,
+                parentModificationCount,
+                crossrefVersion,
+                usesStrings ? stringsState : null));
+        return value;
+    }
+
+    private boolean isValid(BibEntry entry, CachedValue cachedValue) {
+        if (cachedValue.modificationCount() != entry.getModificationCount()) {
+            return false;
+        }
+        if (cachedValue.usesCrossref()) {
+            if (cachedValue.crossrefVersion() != database.getCrossrefVersion()) {
+                return false;
+            }
+            if ((cachedValue.parent() != null) && (cachedValue.parentModificationCount() != cachedValue.parent().getModificationCount())) {
+                return false;
+            }
+        }
+        return (cachedValue.stringsState() == null) || cachedValue.stringsState().equals(database.getStringsState());
+    }
+
+    /**
+     * Hits, misses, and (as evictions) the number of cached values found to be outdated
+     */
+    CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, invalidations.sum());
+    }
+}
@@ -1,11 +1,8 @@
 package org.jabref.model.entry;
 
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -13,6 +10,9 @@ import java.util.stream.Collectors;
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -120,7 +120,21 @@ import org.jspecify.annotations.NonNull;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList implements Iterable<Author> {
 
-    private static final Map<String, AuthorList> AUTHOR_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * Upper bound of the total length of the author strings kept in {@link #AUTHOR_CACHE}.
+     */
+    private static final long AUTHOR_CACHE_MAX_WEIGHT = 4_000_000;
+
+    /**
+     * Parsed author lists, shared by all threads. Reads do not lock, writes only lock a segment of the cache.
+     * The cache is bounded by the total length of the author strings, thus a few very long author lists do not evict many short ones.
+     */
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+                                                                              .maximumWeight(AUTHOR_CACHE_MAX_WEIGHT)
+                                                                              .weigher((String authors, AuthorList authorList) -> authors.length() + 1)
+                                                                              .recordStats()
+                                                                              .build();
+
     private final List<Author> authors;
     private AuthorList latexFreeAuthors;
 
@@ -173,10 +187,23 @@ public class AuthorList implements Iterable<Author> {
      * @return An AuthorList object representing the given authors.
      */
     public static AuthorList parse(@NonNull final String authors) {
-        return AUTHOR_CACHE.computeIfAbsent(authors, string -> {
-            AuthorListParser parser = new AuthorListParser();
-            return parser.parse(string);
-        });
+        AuthorList cachedAuthorList = AUTHOR_CACHE.getIfPresent(authors);
+        if (cachedAuthorList != null) {
+            return cachedAuthorList;
+        }
+
+        // Parsing is not done under a lock. If several threads parse the same string at the same time, one of the equal results is kept.
+        AuthorListParser parser = new AuthorListParser();
+        AuthorList authorList = parser.parse(authors);
+        AUTHOR_CACHE.put(authors, authorList);
+        return authorList;
+    }
+
+    /**
+     * Returns hit and miss counts of the cache used by {@link #parse(String)}
+     */
+    public static CacheStats getCacheStats() {
+        return AUTHOR_CACHE.stats();
     }
 
     /**
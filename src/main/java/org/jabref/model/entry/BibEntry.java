@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -49,6 +50,8 @@ import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.MultiKeyMap;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
@@ -100,24 +103,48 @@ public class BibEntry implements Cloneable {
 
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
+
+    /**
+     * Words of different entries are shared to keep the word caches small (keywords typically repeat across a library).
+     */
+    private static final Interner<String> WORD_INTERNER = Interners.newWeakInterner();
+
     private final SharedBibEntryData sharedBibEntryData;
 
+    // The caches and the event bus below are created on first use only.
+    // Most entries of a large library are never observed or searched, and headless uses (e.g., exports) do not need them at all.
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
+
+    /**
+     * Map to store the lower-cased words in every field. Used for case-insensitive word lookups (e.g., by keyword groups).
+     */
+    private Map<Field, Set<String>> fieldsAsNormalizedWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
+
+    /**
+     * Incremented before and after the type or a field changes. Allows caches outside the entry (e.g., of resolved
+     * fields) to detect changes without listening to events, which are posted after the change. As it is incremented
+     * after the change as well, a value read by another thread during the change is never cached under the final count.
+     */
+    private volatile long modificationCount;
 
-    private final EventBus eventBus = new EventBus();
+    /**
+     * Created when the first listener registers. Before that, there is no one to notify.
+     */
+    private volatile EventBus eventBus;
 
     private String id;
 
@@ -323,14 +350,17 @@ public class BibEntry implements Cloneable {
      * @return The resolved field value or null if not found.
      */
     public Optional<String> getResolvedFieldOrAlias(Field field, @Nullable BibDatabase database) {
-        return genericGetResolvedFieldOrAlias(field, database, BibEntry::getFieldOrAlias);
+        return genericGetResolvedFieldOrAlias(field, database, false, BibEntry::getFieldOrAlias);
     }
 
     public Optional<String> getResolvedFieldOrAliasLatexFree(Field field, @Nullable BibDatabase database) {
-        return genericGetResolvedFieldOrAlias(field, database, BibEntry::getFieldOrAliasLatexFree);
+        return genericGetResolvedFieldOrAlias(field, database, true, BibEntry::getFieldOrAliasLatexFree);
     }
 
-    private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
+    /**
+     * The result is cached by the database, see {@link BibDatabase#getResolvedField}
+     */
+    private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, boolean latexFree, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
             return Optional.of(type.get().getDisplayName());
         }
@@ -339,25 +369,19 @@ public class BibEntry implements Cloneable {
             return getCitationKey();
         }
 
-        Optional<String> result = getFieldOrAlias.apply(this, field);
-        // If this field is not set, and the entry has a crossref, try to look up the
-        // field in the referred entry, following the biblatex rules
-        if (result.isEmpty() && (database != null)) {
-            Optional<BibEntry> referred = database.getReferencedEntry(this);
-            if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
-                Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
-
-                if (sourceField.isPresent()) {
-                    result = getFieldOrAlias.apply(referred.get(), sourceField.get());
-                }
-            }
+        if (database == null) {
+            return getFieldOrAlias.apply(this, field);
         }
 
-        return (database == null) || result.isEmpty() ?
-                result :
-                Optional.of(database.resolveForStrings(result.get()));
+        // If this field is not set, and the entry has a crossref, the field is looked up
+        // in the referred entry, following the biblatex rules
+        return database.getResolvedField(
+                this,
+                field,
+                latexFree,
+                () -> getFieldOrAlias.apply(this, field),
+                referred -> getSourceField(field, type.get(), referred.type.get())
+                        .flatMap(sourceField -> getFieldOrAlias.apply(referred, sourceField)));
     }
 
     /**
@@ -382,7 +406,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -450,10 +474,12 @@ public class BibEntry implements Cloneable {
         }
 
         changed = true;
+        modificationCount++;
         this.type.setValue(newType);
+        modificationCount++;
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -471,6 +497,13 @@ public class BibEntry implements Cloneable {
         return getFields().stream().filter(selector).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    /**
+     * Returns a counter which is incremented whenever the type or a field of this entry changes
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Returns the contents of the given field as an Optional.
      */
@@ -484,14 +517,23 @@ public class BibEntry implements Cloneable {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+        }
+
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        if (latexFreeCache == null) {
+            // Concurrent initializations are harmless: only cached values get lost
+            latexFreeCache = new ConcurrentHashMap<>();
+            latexFreeFields = latexFreeCache;
+        }
+        String cachedValue = latexFreeCache.get(field);
+        if (cachedValue != null) {
+            return Optional.of(cachedValue);
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                latexFreeCache.put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -641,12 +683,13 @@ public class BibEntry implements Cloneable {
 
         invalidateFieldCache(field);
         fields.put(field, value.intern());
+        invalidateFieldCache(field);
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -687,9 +730,10 @@ public class BibEntry implements Cloneable {
 
         invalidateFieldCache(field);
         fields.remove(field);
+        invalidateFieldCache(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -963,18 +1007,39 @@ public class BibEntry implements Cloneable {
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                bus = eventBus;
+                if (bus == null) {
+                    bus = new EventBus();
+                    eventBus = bus;
+                }
+            }
+        }
+        bus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    private void postEvent(Object event) {
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -985,7 +1050,9 @@ public class BibEntry implements Cloneable {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
+        modificationCount++;
         this.fields = FXCollections.observableMap(new HashMap<>(content));
+        modificationCount++;
         this.setChanged(false);
         return this;
     }
@@ -1025,6 +1092,9 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1040,7 +1110,34 @@ public class BibEntry implements Cloneable {
         }
     }
 
+    /**
+     * Returns the words of the given field in lower case (using {@link Locale#ROOT}).
+     * The result is cached until the field changes, so repeated case-insensitive lookups (e.g., evaluating many keyword groups against the same entry) only tokenize the field once.
+     */
+    public Set<String> getFieldAsNormalizedWords(Field field) {
+        if (fieldsAsNormalizedWords == null) {
+            fieldsAsNormalizedWords = new HashMap<>();
+        }
+        Set<String> storedSet = fieldsAsNormalizedWords.get(field);
+        if (storedSet != null) {
+            return storedSet;
+        }
+        Set<String> words = getFieldAsWords(field);
+        if (words.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> normalizedWords = new HashSet<>(words.size());
+        for (String word : words) {
+            normalizedWords.add(WORD_INTERNER.intern(word.toLowerCase(Locale.ROOT)));
+        }
+        fieldsAsNormalizedWords.put(field, normalizedWords);
+        return normalizedWords;
+    }
+
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
+        if (fieldsAsKeywords == null) {
+            fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+        }
         if (field instanceof StandardField standardField) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
@@ -1062,11 +1159,22 @@ public class BibEntry implements Cloneable {
         return clearField(InternalField.KEY_FIELD);
     }
 
+    /**
+     * Called before and after the given field changes, so that no value read during the change remains cached
+     */
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
-
-        if (field instanceof StandardField standardField) {
+        modificationCount++;
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        if (latexFreeCache != null) {
+            latexFreeCache.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if (fieldsAsNormalizedWords != null) {
+            fieldsAsNormalizedWords.remove(field);
+        }
+        if ((fieldsAsKeywords != null) && (field instanceof StandardField standardField)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
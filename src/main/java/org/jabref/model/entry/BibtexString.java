@@ -78,6 +78,8 @@ public class BibtexString implements Cloneable {
     private Type type;
     private String parsedSerialization;
     private boolean hasChanged;
+    // Incremented on each change. Allows caches of resolved strings to detect changes.
+    private volatile long modificationCount;
 
     /**
      * Default constructor. Use this if in doubt.
@@ -111,6 +113,7 @@ public class BibtexString implements Cloneable {
     public void setId(String id) {
         this.id = id;
         hasChanged = true;
+        modificationCount++;
     }
 
     /**
@@ -123,6 +126,7 @@ public class BibtexString implements Cloneable {
     public void setName(String name) {
         this.name = name;
         hasChanged = true;
+        modificationCount++;
         type = Type.get(name);
     }
 
@@ -136,6 +140,7 @@ public class BibtexString implements Cloneable {
     public void setContent(String content) {
         this.content = content;
         hasChanged = true;
+        modificationCount++;
     }
 
     public Type getType() {
@@ -146,6 +151,10 @@ public class BibtexString implements Cloneable {
         return parsedSerialization;
     }
 
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     public boolean hasChanged() {
         return hasChanged;
     }
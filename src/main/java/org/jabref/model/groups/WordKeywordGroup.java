@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -46,24 +47,6 @@ public class WordKeywordGroup extends KeywordGroup implements GroupEntryChanger
         }
     }
 
-    private static boolean containsCaseInsensitive(Set<String> searchIn, Collection<String> searchFor) {
-        for (String searchWord : searchFor) {
-            if (!containsCaseInsensitive(searchIn, searchWord)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private static boolean containsCaseInsensitive(Set<String> searchIn, String searchFor) {
-        for (String word : searchIn) {
-            if (word.equalsIgnoreCase(searchFor)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     @Override
     public List<FieldChange> add(Collection<BibEntry> entriesToAdd) {
         Objects.requireNonNull(entriesToAdd);
@@ -141,20 +124,23 @@ public class WordKeywordGroup extends KeywordGroup implements GroupEntryChanger
     }
 
     class StringSearchStrategy implements SearchStrategy {
-        Set<String> searchWords;
+        private final Set<String> searchWords;
 
         StringSearchStrategy() {
-            searchWords = new HashSet<>(StringUtil.getStringAsWords(searchExpression));
+            if (caseSensitive) {
+                searchWords = new HashSet<>(StringUtil.getStringAsWords(searchExpression));
+            } else {
+                // The entry side is normalized (and cached) by BibEntry#getFieldAsNormalizedWords, thus a case-insensitive lookup is a plain hash lookup
+                searchWords = StringUtil.getStringAsWords(searchExpression).stream()
+                                        .map(word -> word.toLowerCase(Locale.ROOT))
+                                        .collect(Collectors.toSet());
+            }
         }
 
         @Override
         public boolean contains(BibEntry entry) {
-            Set<String> content = entry.getFieldAsWords(searchField);
-            if (caseSensitive) {
-                return content.containsAll(searchWords);
-            } else {
-                return containsCaseInsensitive(content, searchWords);
-            }
+            Set<String> content = caseSensitive ? entry.getFieldAsWords(searchField) : entry.getFieldAsNormalizedWords(searchField);
+            return content.containsAll(searchWords);
         }
     }
 
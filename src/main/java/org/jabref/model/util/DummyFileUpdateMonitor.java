@@ -4,7 +4,7 @@ import java.nio.file.Path;
 
 /**
  * This {@link FileUpdateMonitor} does nothing.
- * Normally, you want to use {@link org.jabref.gui.util.DefaultFileUpdateMonitor} except if you don't care about updates.
+ * Normally, you want to use {@link org.jabref.logic.util.DefaultFileUpdateMonitor} except if you don't care about updates.
  */
 public class DummyFileUpdateMonitor implements FileUpdateMonitor {
 
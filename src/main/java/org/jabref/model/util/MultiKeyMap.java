@@ -6,13 +6,19 @@ import java.util.Map;
 import java.util.Optional;
 
 public class MultiKeyMap<K1 extends Enum<K1>, K2, V> {
-    private final EnumMap<K1, Map<K2, V>> map;
+    private final Class<K1> keyType;
+
+    // An EnumMap allocates an array for all enum constants, thus it is only created when the first value is put
+    private EnumMap<K1, Map<K2, V>> map;
 
     public MultiKeyMap(Class<K1> keyType) {
-        map = new EnumMap<>(keyType);
+        this.keyType = keyType;
     }
 
     public Optional<V> get(K1 key1, K2 key2) {
+        if (map == null) {
+            return Optional.empty();
+        }
         Map<K2, V> metaValue = map.get(key1);
         if (metaValue == null) {
             return Optional.empty();
@@ -22,6 +28,9 @@ public class MultiKeyMap<K1 extends Enum<K1>, K2, V> {
     }
 
     public void put(K1 key1, K2 key2, V value) {
+        if (map == null) {
+            map = new EnumMap<>(keyType);
+        }
         Map<K2, V> metaValue = map.get(key1);
         if (metaValue == null) {
             Map<K2, V> newMetaValue = new HashMap<>();
@@ -33,6 +42,8 @@ public class MultiKeyMap<K1 extends Enum<K1>, K2, V> {
     }
 
     public void remove(K1 key1) {
-        map.remove(key1);
+        if (map != null) {
+            map.remove(key1);
+        }
     }
 }
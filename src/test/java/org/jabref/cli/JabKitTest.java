@@ -0,0 +1,36 @@
+package org.jabref.cli;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JabKitTest {
+
+    @Test
+    void singleImportToOpenIsNotSplit() {
+        String[] args = {"--importToOpen", "a.ris", "--debug"};
+        List<String[]> batch = JabKit.splitImportsToOpen(args);
+        assertEquals(1, batch.size());
+        assertArrayEquals(args, batch.getFirst());
+    }
+
+    @Test
+    void severalImportsToOpenAreSplit() {
+        List<String[]> batch = JabKit.splitImportsToOpen(new String[] {"--debug", "--importToOpen", "a.ris", "--importToOpen=b.ris"});
+        assertEquals(3, batch.size());
+        assertArrayEquals(new String[] {"--debug"}, batch.get(0));
+        assertArrayEquals(new String[] {"--importToOpen", "a.ris"}, batch.get(1));
+        assertArrayEquals(new String[] {"--importToOpen=b.ris"}, batch.get(2));
+    }
+
+    @Test
+    void severalImportsToOpenWithoutOtherArgumentsAreSplit() {
+        List<String[]> batch = JabKit.splitImportsToOpen(new String[] {"--importToOpen", "a.ris", "--importToOpen", "b.ris"});
+        assertEquals(2, batch.size());
+        assertArrayEquals(new String[] {"--importToOpen", "a.ris"}, batch.get(0));
+        assertArrayEquals(new String[] {"--importToOpen", "b.ris"}, batch.get(1));
+    }
+}
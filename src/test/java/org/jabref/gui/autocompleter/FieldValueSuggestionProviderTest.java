@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import static org.jabref.gui.autocompleter.AutoCompleterUtil.getRequest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -181,4 +182,37 @@ class FieldValueSuggestionProviderTest {
         Collection<String> result = autoCompleter.provideSuggestions(getRequest("te"));
         assertEquals(Collections.singletonList("test value"), result);
     }
+
+    @Test
+    void completeFollowsChangesOfLibrary() {
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "test value");
+        database.insertEntry(entry);
+        assertEquals(List.of("test value"), autoCompleter.provideSuggestions(getRequest("test")));
+
+        entry.setField(StandardField.TITLE, "changed value");
+        assertEquals(Collections.emptyList(), autoCompleter.provideSuggestions(getRequest("test")));
+        assertEquals(List.of("changed value"), autoCompleter.provideSuggestions(getRequest("chan")));
+
+        database.removeEntry(entry);
+        assertEquals(Collections.emptyList(), autoCompleter.provideSuggestions(getRequest("chan")));
+    }
+
+    @Test
+    void completeReturnsMostFrequentValues() {
+        for (int i = 0; i < 12; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField(StandardField.TITLE, "testValue" + i);
+            database.insertEntry(entry);
+        }
+        for (int i = 0; i < 2; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField(StandardField.TITLE, "testValueFrequent");
+            database.insertEntry(entry);
+        }
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("testValue"));
+        assertEquals(10, result.size());
+        assertTrue(result.contains("testValueFrequent"));
+    }
 }
@@ -0,0 +1,113 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.logic.exporter.SaveIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BackupJournalTest {
+
+    private static final String HEADER = "% Encoding: UTF-8\n\n";
+    private static final String FIRST = "@Article{first,\n  title = {First},\n}\n";
+    private static final String SECOND = "@Article{second,\n  title = {Second},\n}\n";
+    private static final String FOOTER = "\n@Comment{jabref-meta: databaseType:bibtex;}\n";
+
+    @TempDir
+    Path tempDir;
+
+    private Path base;
+    private BackupJournal journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        base = tempDir.resolve("library.bib.bak");
+        Files.writeString(base, HEADER + FIRST + "\n" + SECOND + FOOTER, StandardCharsets.UTF_8);
+
+        long firstStart = HEADER.length();
+        long secondStart = firstStart + FIRST.length() + 1;
+        Map<String, SaveIndex.Range> entryRanges = Map.of(
+                "1", new SaveIndex.Range(firstStart, firstStart + FIRST.length()),
+                "2", new SaveIndex.Range(secondStart, secondStart + SECOND.length()));
+        journal = BackupJournal.create(base, "\n".getBytes(StandardCharsets.UTF_8), entryRanges);
+    }
+
+    private String restore() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BackupJournal.restore(base, BackupJournal.getJournalPath(base), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void emptyJournalRestoresBase() throws IOException {
+        assertEquals(Files.readString(base), restore());
+    }
+
+    @Test
+    void changedEntryIsReplaced() throws IOException {
+        String changed = "@Article{first,\n  title = {Chänged},\n}\n";
+        journal.append(Map.of("1", changed.getBytes(StandardCharsets.UTF_8)), Set.of());
+
+        assertEquals(HEADER + changed + "\n" + SECOND + FOOTER, restore());
+    }
+
+    @Test
+    void removedAndAddedEntries() throws IOException {
+        String added = "@Book{added,\n}\n";
+        Map<String, byte[]> changedEntries = new LinkedHashMap<>();
+        changedEntries.put("3", added.getBytes(StandardCharsets.UTF_8));
+        journal.append(changedEntries, Set.of("1"));
+
+        assertEquals(HEADER + SECOND + "\n" + added + FOOTER, restore());
+    }
+
+    @Test
+    void laterRecordsWin() throws IOException {
+        journal.append(Map.of(), Set.of("2"));
+        journal.append(Map.of("2", SECOND.getBytes(StandardCharsets.UTF_8)), Set.of());
+
+        assertEquals(Files.readString(base), restore());
+    }
+
+    @Test
+    void incompleteLastRecordIsIgnored() throws IOException {
+        journal.append(Map.of(), Set.of("1"));
+        Path journalFile = BackupJournal.getJournalPath(base);
+        Files.write(journalFile, new byte[] {'E', 0, 1, '2', 0, 0, 1}, StandardOpenOption.APPEND);
+
+        assertEquals(HEADER + SECOND + FOOTER, restore());
+    }
+
+    @Test
+    void changedEntryIsReplacedInUtf16() throws IOException {
+        Charset encoding = StandardCharsets.UTF_16LE;
+        Path utf16Base = tempDir.resolve("utf16.bib.bak");
+        Files.writeString(utf16Base, HEADER + FIRST + "\n" + SECOND + FOOTER, encoding);
+        long firstStart = HEADER.getBytes(encoding).length;
+        long firstEnd = firstStart + FIRST.getBytes(encoding).length;
+        long secondStart = firstEnd + "\n".getBytes(encoding).length;
+        Map<String, SaveIndex.Range> entryRanges = Map.of(
+                "1", new SaveIndex.Range(firstStart, firstEnd),
+                "2", new SaveIndex.Range(secondStart, secondStart + SECOND.getBytes(encoding).length));
+        BackupJournal utf16Journal = BackupJournal.create(utf16Base, "\n".getBytes(encoding), entryRanges);
+        String changed = "@Article{first,\n  title = {Chänged 日本},\n}\n";
+        utf16Journal.append(Map.of("1", changed.getBytes(encoding)), Set.of());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BackupJournal.restore(utf16Base, BackupJournal.getJournalPath(utf16Base), out);
+        assertEquals(HEADER + changed + "\n" + SECOND + FOOTER, out.toString(encoding));
+    }
+}
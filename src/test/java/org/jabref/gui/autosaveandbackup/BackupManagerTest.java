@@ -1,5 +1,7 @@
 package org.jabref.gui.autosaveandbackup;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -10,13 +12,17 @@ import java.util.Optional;
 
 import org.jabref.gui.LibraryTab;
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
@@ -24,6 +30,8 @@ import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -169,6 +177,7 @@ class BackupManagerTest {
         when(preferences.getFilePreferences()).thenReturn(filePreferences);
         when(filePreferences.getBackupDirectory()).thenReturn(backupDir);
         when(filePreferences.shouldCreateBackup()).thenReturn(true);
+        when(preferences.getFieldPreferences()).thenReturn(new FieldPreferences(true, List.of(), List.of()));
 
         BackupManager manager = BackupManager.start(
                 mock(LibraryTab.class),
@@ -188,4 +197,140 @@ class BackupManagerTest {
         // due to timing issues we cannot test that reliable
         assertEquals(fullBackupPath.get(), files.getFirst());
     }
+
+    @Test
+    void entryChangesAreJournaled(@TempDir Path customDir) throws Exception {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path bibFile = customDir.resolve("Bibfile.bib");
+
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key")
+                .withField(StandardField.TITLE, "Title")
+                .withChanged(true);
+        var database = new BibDatabaseContext(new BibDatabase(List.of(entry)));
+        database.setDatabasePath(bibFile);
+
+        var preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        var filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.getBackupDirectory()).thenReturn(backupDir);
+        when(filePreferences.shouldCreateBackup()).thenReturn(true);
+        when(preferences.getFieldPreferences()).thenReturn(new FieldPreferences(true, List.of(), List.of()));
+
+        BackupManager manager = BackupManager.start(
+                mock(LibraryTab.class),
+                database,
+                new BibEntryTypesManager(),
+                preferences);
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        Path fullBackupPath = manager.determineBackupPathForNewBackup(backupDir).get();
+        manager.performBackup(fullBackupPath);
+
+        entry.setField(StandardField.TITLE, "Changed title");
+        manager.commitJournal();
+        BackupManager.shutdown(database, backupDir, false);
+        BackupManager.restoreBackup(bibFile, backupDir);
+
+        assertTrue(Files.exists(BackupJournal.getJournalPath(fullBackupPath)));
+        assertTrue(Files.readString(bibFile).contains("Changed title"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ISO-8859-1", "UTF-16BE"})
+    void entryChangesAreJournaledInOtherEncodings(String encodingName, @TempDir Path customDir) throws Exception {
+        Charset encoding = Charset.forName(encodingName);
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path bibFile = customDir.resolve("Bibfile.bib");
+
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("first")
+                .withField(StandardField.TITLE, "Title")
+                .withChanged(true);
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("second")
+                .withField(StandardField.TITLE, "Ümlaut")
+                .withChanged(true);
+        var database = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        database.setDatabasePath(bibFile);
+        database.getMetaData().setEncoding(encoding);
+
+        BackupManager manager = startJournalingManager(database, backupDir);
+        Path fullBackupPath = manager.determineBackupPathForNewBackup(backupDir).get();
+        manager.performBackup(fullBackupPath);
+
+        first.setField(StandardField.TITLE, "Chänged title");
+        manager.commitJournal();
+        BackupManager.shutdown(database, backupDir, false);
+        BackupManager.restoreBackup(bibFile, backupDir);
+
+        assertTrue(Files.exists(BackupJournal.getJournalPath(fullBackupPath)));
+        String restored = Files.readString(bibFile, encoding);
+        assertTrue(restored.contains("Chänged title"));
+        assertTrue(restored.contains("Ümlaut"));
+        assertFalse(restored.contains("\uFEFF"));
+    }
+
+    @Test
+    void noJournalForEncodingWithByteOrderMark(@TempDir Path customDir) throws Exception {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+
+        var database = new BibDatabaseContext(new BibDatabase(List.of(new BibEntry(StandardEntryType.Article).withCitationKey("key"))));
+        database.setDatabasePath(customDir.resolve("Bibfile.bib"));
+        database.getMetaData().setEncoding(StandardCharsets.UTF_16);
+
+        BackupManager manager = startJournalingManager(database, backupDir);
+        Path fullBackupPath = manager.determineBackupPathForNewBackup(backupDir).get();
+        manager.performBackup(fullBackupPath);
+        BackupManager.shutdown(database, backupDir, false);
+
+        assertTrue(Files.exists(fullBackupPath));
+        assertFalse(Files.exists(BackupJournal.getJournalPath(fullBackupPath)));
+    }
+
+    @Test
+    void addedEntriesAreJournaledInOrder(@TempDir Path customDir) throws Exception {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path bibFile = customDir.resolve("Bibfile.bib");
+
+        var database = new BibDatabaseContext(new BibDatabase(List.of(new BibEntry(StandardEntryType.Article).withCitationKey("base"))));
+        database.setDatabasePath(bibFile);
+
+        BackupManager manager = startJournalingManager(database, backupDir);
+        Path fullBackupPath = manager.determineBackupPathForNewBackup(backupDir).get();
+        manager.performBackup(fullBackupPath);
+
+        database.getDatabase().insertEntries(
+                new BibEntry(StandardEntryType.Book).withCitationKey("added1"),
+                new BibEntry(StandardEntryType.Book).withCitationKey("added2"));
+        database.getDatabase().insertEntry(new BibEntry(StandardEntryType.Book).withCitationKey("added3"));
+        manager.commitJournal();
+        BackupManager.shutdown(database, backupDir, false);
+        BackupManager.restoreBackup(bibFile, backupDir);
+
+        String restored = Files.readString(bibFile);
+        assertTrue(restored.indexOf("{base,") < restored.indexOf("{added1,"));
+        assertTrue(restored.indexOf("{added1,") < restored.indexOf("{added2,"));
+        assertTrue(restored.indexOf("{added2,") < restored.indexOf("{added3,"));
+    }
+
+    private static BackupManager startJournalingManager(BibDatabaseContext database, Path backupDir) {
+        var preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        var filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.getBackupDirectory()).thenReturn(backupDir);
+        when(filePreferences.shouldCreateBackup()).thenReturn(true);
+        when(preferences.getFieldPreferences()).thenReturn(new FieldPreferences(true, List.of(), List.of()));
+
+        BackupManager manager = BackupManager.start(
+                mock(LibraryTab.class),
+                database,
+                new BibEntryTypesManager(),
+                preferences);
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        return manager;
+    }
 }
@@ -0,0 +1,59 @@
+package org.jabref.gui.maintable;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.OrFields;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibEntryTableViewModelTest {
+
+    private BibEntry entry;
+    private BibEntryTableViewModel viewModel;
+
+    @BeforeEach
+    void setUp() {
+        BibDatabaseContext bibDatabaseContext = new BibDatabaseContext();
+        NameDisplayPreferences nameDisplayPreferences = new NameDisplayPreferences(NameDisplayPreferences.DisplayStyle.AS_IS, NameDisplayPreferences.AbbreviationStyle.FULL);
+        SimpleObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter = new SimpleObjectProperty<>(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
+        entry = new BibEntry().withField(StandardField.TITLE, "Title");
+        viewModel = new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter);
+    }
+
+    @Test
+    void unobservedFieldValueFollowsChanges() {
+        ObservableValue<String> title = viewModel.getFields(new OrFields(StandardField.TITLE));
+        assertEquals("Title", title.getValue());
+
+        entry.setField(StandardField.TITLE, "Changed");
+        assertEquals("Changed", title.getValue());
+    }
+
+    @Test
+    void observedFieldValueIsInvalidatedOnChange() {
+        ObservableValue<String> title = viewModel.getFields(new OrFields(StandardField.TITLE));
+        final boolean[] invalidated = {false};
+        InvalidationListener listener = observable -> invalidated[0] = true;
+        title.addListener(listener);
+
+        entry.setField(StandardField.TITLE, "Changed");
+        assertTrue(invalidated[0]);
+        assertEquals("Changed", title.getValue());
+
+        title.removeListener(listener);
+        invalidated[0] = false;
+        entry.setField(StandardField.TITLE, "Changed again");
+        assertFalse(invalidated[0]);
+        assertEquals("Changed again", title.getValue());
+    }
+}
@@ -14,7 +14,7 @@ import javafx.scene.Scene;
 import javafx.scene.web.WebEngine;
 
 import org.jabref.gui.WorkspacePreferences;
-import org.jabref.gui.util.DefaultFileUpdateMonitor;
+import org.jabref.logic.util.DefaultFileUpdateMonitor;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.support.DisabledOnCIServer;
 
@@ -0,0 +1,102 @@
+package org.jabref.http.server;
+
+import java.util.EnumSet;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntriesResourceTest extends ServerTest {
+
+    @Override
+    protected Application configure() {
+        ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class);
+        addPreferencesToResourceConfig(resourceConfig);
+        addGsonToResourceConfig(resourceConfig);
+        addLibrarySnapshotCacheToResourceConfig(resourceConfig);
+        return resourceConfig.getApplication();
+    }
+
+    @BeforeEach
+    void setAvailableLibraries() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.GENERAL_SERVER_TEST, TestBibFile.JABREF_AUTHORS));
+    }
+
+    private JsonObject getPage(String query) {
+        String page = target("/libraries/" + TestBibFile.JABREF_AUTHORS.id + "/entries" + query).request(MediaType.APPLICATION_JSON).get(String.class);
+        return JsonParser.parseString(page).getAsJsonObject();
+    }
+
+    @Test
+    void getEntryByCitationKey() {
+        String entry = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test").request(MediaType.APPLICATION_JSON).get(String.class);
+        String bibtex = JsonParser.parseString(entry).getAsJsonObject().get("bibtex").getAsString();
+        assertTrue(bibtex.contains("Demo Title"));
+        assertTrue(bibtex.contains("Demo Author"));
+    }
+
+    @Test
+    void getEntryWithProjectedFields() {
+        String entry = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test").queryParam("fields", "title").request(MediaType.APPLICATION_JSON).get(String.class);
+        String bibtex = JsonParser.parseString(entry).getAsJsonObject().get("bibtex").getAsString();
+        assertTrue(bibtex.contains("Author2023test"));
+        assertTrue(bibtex.contains("Demo Title"));
+        assertFalse(bibtex.contains("Demo Author"));
+    }
+
+    @Test
+    void getUnknownEntry() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/unknown").request(MediaType.APPLICATION_JSON).get();
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void pagesFollowEachOther() {
+        JsonObject firstPage = getPage("?limit=2");
+        assertEquals(2, firstPage.getAsJsonArray("entries").size());
+
+        JsonObject secondPage = getPage("?limit=2&cursor=" + firstPage.get("nextCursor").getAsString());
+        assertEquals(2, secondPage.getAsJsonArray("entries").size());
+        assertNotEquals(firstPage.getAsJsonArray("entries").get(0), secondPage.getAsJsonArray("entries").get(0));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        JsonObject page = getPage("?limit=1000");
+        assertFalse(page.has("nextCursor"));
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        Response response = target("/libraries/" + TestBibFile.JABREF_AUTHORS.id + "/entries").queryParam("cursor", "invalid").request(MediaType.APPLICATION_JSON).get();
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void searchReturnsMatchingEntriesOnly() {
+        String page = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").queryParam("q", "author=Demo").request(MediaType.APPLICATION_JSON).get(String.class);
+        JsonArray entries = JsonParser.parseString(page).getAsJsonObject().getAsJsonArray("entries");
+        assertEquals(1, entries.size());
+        assertTrue(entries.get(0).getAsJsonObject().get("bibtex").getAsString().contains("Author2023test"));
+
+        page = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").queryParam("q", "author=Nobody").request(MediaType.APPLICATION_JSON).get(String.class);
+        assertEquals(0, JsonParser.parseString(page).getAsJsonObject().getAsJsonArray("entries").size());
+    }
+
+    @Test
+    void invalidSearchExpressionIsRejected() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").queryParam("q", "author=").request(MediaType.APPLICATION_JSON).get();
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+}
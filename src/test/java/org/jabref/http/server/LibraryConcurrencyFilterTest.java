@@ -0,0 +1,98 @@
+package org.jabref.http.server;
+
+import java.util.EnumSet;
+import java.util.concurrent.Semaphore;
+
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Only one request per library is allowed at a time. A permit which is not released lets the next request for the
+ * library fail with "503 Service Unavailable" after waiting for one second.
+ */
+class LibraryConcurrencyFilterTest extends ServerTest {
+
+    // Assigned in configure(), which is called by the constructor of JerseyTest
+    private LibraryConcurrencyFilter filter;
+
+    @Override
+    protected Application configure() {
+        filter = new LibraryConcurrencyFilter();
+        ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class)
+                .register(filter)
+                .property(LibraryConcurrencyFilter.MAX_CONCURRENT_REQUESTS_PER_LIBRARY, 1)
+                .property(LibraryConcurrencyFilter.MAX_WAIT_FOR_LIBRARY_MILLIS, 1_000);
+        addPreferencesToResourceConfig(resourceConfig);
+        addGsonToResourceConfig(resourceConfig);
+        addLibrarySnapshotCacheToResourceConfig(resourceConfig);
+        return resourceConfig.getApplication();
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        config.property(ClientProperties.READ_TIMEOUT, 10_000);
+    }
+
+    @BeforeEach
+    void setAvailableLibraries() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.GENERAL_SERVER_TEST, TestBibFile.JABREF_AUTHORS));
+    }
+
+    private int get(String path) {
+        try (Response response = target(path).request(MediaType.APPLICATION_JSON).get()) {
+            // Reads the complete (streamed) response
+            response.readEntity(String.class);
+            return response.getStatus();
+        }
+    }
+
+    @Test
+    void requestWaitingTooLongIsRejected() {
+        String entries = "/libraries/" + TestBibFile.JABREF_AUTHORS.id + "/entries";
+        Semaphore permits = filter.getPermits(TestBibFile.JABREF_AUTHORS.path);
+        permits.acquireUninterruptibly();
+        try (Response response = target(entries).request(MediaType.APPLICATION_JSON).get()) {
+            assertEquals(Response.Status.SERVICE_UNAVAILABLE.getStatusCode(), response.getStatus());
+            assertEquals("1", response.getHeaderString(HttpHeaders.RETRY_AFTER));
+        } finally {
+            permits.release();
+        }
+        assertEquals(Response.Status.OK.getStatusCode(), get(entries));
+    }
+
+    @Test
+    void permitIsReleasedAfterStreamedPage() {
+        String entries = "/libraries/" + TestBibFile.JABREF_AUTHORS.id + "/entries";
+        assertEquals(Response.Status.OK.getStatusCode(), get(entries));
+        assertEquals(Response.Status.OK.getStatusCode(), get(entries));
+    }
+
+    @Test
+    void permitIsReleasedAfterException() {
+        String entries = "/libraries/" + TestBibFile.JABREF_AUTHORS.id + "/entries";
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), get(entries + "?cursor=invalid"));
+        assertEquals(Response.Status.OK.getStatusCode(), get(entries));
+    }
+
+    @Test
+    void permitIsReleasedAfterNotFound() {
+        String entries = "/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries";
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), get(entries + "/unknown"));
+        assertEquals(Response.Status.OK.getStatusCode(), get(entries + "/Author2023test"));
+    }
+
+    @Test
+    void unknownLibraryDoesNotTakePermit() {
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), get("/libraries/unknown/entries"));
+        assertEquals(0, filter.getNumberOfLimitedLibraries());
+    }
+}
@@ -0,0 +1,66 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LibrarySnapshotCacheTest {
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private LibrarySnapshotCache librarySnapshotCache;
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        librarySnapshotCache = new LibrarySnapshotCache(new DummyFileUpdateMonitor());
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{first,}\n");
+    }
+
+    @Test
+    void unchangedLibraryIsParsedOnce() throws IOException {
+        LibrarySnapshotCache.LibrarySnapshot snapshot = librarySnapshotCache.getSnapshot(library, importFormatPreferences);
+        assertSame(snapshot, librarySnapshotCache.getSnapshot(library, importFormatPreferences));
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws IOException {
+        LibrarySnapshotCache.LibrarySnapshot snapshot = librarySnapshotCache.getSnapshot(library, importFormatPreferences);
+        Files.writeString(library, "@Misc{first,}\n@Misc{second,}\n");
+
+        LibrarySnapshotCache.LibrarySnapshot changedSnapshot = librarySnapshotCache.getSnapshot(library, importFormatPreferences);
+        assertNotSame(snapshot, changedSnapshot);
+        assertEquals(2, changedSnapshot.getParserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void representationIsComputedOncePerSnapshot() throws IOException {
+        LibrarySnapshotCache.LibrarySnapshot snapshot = librarySnapshotCache.getSnapshot(library, importFormatPreferences);
+        LibrarySnapshotCache.Representation representation = snapshot.getRepresentation("json", parserResult -> "body");
+
+        assertSame(representation, snapshot.getRepresentation("json", parserResult -> "other body"));
+        assertNotEquals(representation.entityTag(), snapshot.getRepresentation("csl", parserResult -> "body").entityTag());
+    }
+
+    @Test
+    void libraryPathIsFoundById() {
+        assertEquals(library, librarySnapshotCache.getLibraryPath(List.of(library), LibrarySnapshotCache.getLibraryId(library)).orElseThrow());
+        assertTrue(librarySnapshotCache.getLibraryPath(List.of(), LibrarySnapshotCache.getLibraryId(library)).isEmpty());
+    }
+}
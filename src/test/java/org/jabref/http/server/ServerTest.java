@@ -11,7 +11,10 @@ import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.LastFilesOpenedPreferences;
+import org.jabref.logic.search.SearchPreferences;
 import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.google.gson.Gson;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
@@ -63,6 +66,15 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibrarySnapshotCacheToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(new LibrarySnapshotCache(new DummyFileUpdateMonitor())).to(LibrarySnapshotCache.class).ranked(2);
+            }
+        });
+    }
+
     protected void setAvailableLibraries(EnumSet<TestBibFile> files) {
         when(lastFilesOpenedPreferences.getLastFilesOpened()).thenReturn(
                 FXCollections.observableArrayList(
@@ -79,6 +91,7 @@ abstract class ServerTest extends JerseyTest {
 
         BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
         when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
         when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
 
         FieldPreferences fieldWriterPreferences = mock(FieldPreferences.class);
@@ -90,6 +103,10 @@ abstract class ServerTest extends JerseyTest {
         // used twice, once for reading and once for writing
         when(importFormatPreferences.fieldPreferences()).thenReturn(fieldContentFormatterPreferences);
 
+        SearchPreferences searchPreferences = mock(SearchPreferences.class);
+        when(preferences.getSearchPreferences()).thenReturn(searchPreferences);
+        when(searchPreferences.getSearchFlags()).thenReturn(EnumSet.noneOf(SearchFlags.class));
+
         lastFilesOpenedPreferences = mock(LastFilesOpenedPreferences.class);
         when(preferences.getLastFilesOpenedPreferences()).thenReturn(lastFilesOpenedPreferences);
 
@@ -16,6 +16,19 @@ import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class FieldComparatorTest {
+    @Test
+    void compareFollowsFieldChanges() {
+        FieldComparator comparator = new FieldComparator(StandardField.AUTHOR);
+        BibEntry first = new BibEntry()
+                .withField(StandardField.AUTHOR, "Adams, Alice");
+        BibEntry second = new BibEntry()
+                .withField(StandardField.AUTHOR, "Brown, Bob");
+        assertEquals(-1, comparator.compare(first, second));
+
+        first.setField(StandardField.AUTHOR, "Clark, Carol");
+        assertEquals(1, comparator.compare(first, second));
+    }
+
     @Test
     void compareMonthFieldIdentity() throws Exception {
         FieldComparator comparator = new FieldComparator(StandardField.MONTH);
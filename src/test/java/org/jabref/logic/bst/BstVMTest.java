@@ -43,6 +43,17 @@ public class BstVMTest {
                 result.replaceAll("\\s", ""));
     }
 
+    @Test
+    void renderingTwiceWithSameVmGivesSameResult() throws RecognitionException, IOException {
+        BstVM vm = new BstVM(Path.of("src/test/resources/org/jabref/logic/bst/abbrv.bst"));
+        List<BibEntry> testEntries = List.of(defaultTestEntry());
+
+        String first = vm.render(testEntries);
+        String second = vm.render(testEntries);
+
+        assertEquals(first, second);
+    }
+
     @Test
     void ieeetran() throws RecognitionException, IOException {
         BstVM vm = new BstVM(Path.of("src/main/resources/bst/IEEEtran.bst"));
@@ -0,0 +1,116 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimerTask;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CSLAdapterPoolTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<TimerTask> scheduledCleanups = new ArrayList<>();
+    private final CSLAdapterPool pool = new CSLAdapterPool(2, Duration.ofNanos(100), clock::get, (task, delay) -> scheduledCleanups.add(task));
+
+    @Test
+    void reusesAdapterForSameStyleAndFormat() throws IOException {
+        CSLAdapter first = pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+        CSLAdapter second = pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void prefersAdapterWarmedUpForRequestedStyle() throws Exception {
+        CountDownLatch bothCheckedOut = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CSLAdapter> styleA = executor.submit(() -> pool.execute("a", CitationStyleOutputFormat.HTML, adapter -> awaitAndReturn(bothCheckedOut, adapter)));
+            Future<CSLAdapter> styleB = executor.submit(() -> pool.execute("b", CitationStyleOutputFormat.HTML, adapter -> awaitAndReturn(bothCheckedOut, adapter)));
+            CSLAdapter adapterA = styleA.get(10, TimeUnit.SECONDS);
+            CSLAdapter adapterB = styleB.get(10, TimeUnit.SECONDS);
+            assertNotSame(adapterA, adapterB);
+
+            assertSame(adapterA, pool.execute("a", CitationStyleOutputFormat.HTML, adapter -> adapter));
+            assertSame(adapterB, pool.execute("b", CitationStyleOutputFormat.HTML, adapter -> adapter));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void evictsIdleAdapters() throws IOException {
+        pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+        assertEquals(1, pool.getIdleCount());
+
+        clock.addAndGet(101);
+        CSLAdapter first = pool.execute("other", CitationStyleOutputFormat.TEXT, adapter -> adapter);
+        clock.addAndGet(101);
+        CSLAdapter second = pool.execute("other", CitationStyleOutputFormat.TEXT, adapter -> adapter);
+
+        assertNotSame(first, second);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void scheduledCleanupEvictsAdaptersOfUnusedPool() throws IOException {
+        pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+        pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+        assertEquals(1, scheduledCleanups.size());
+
+        clock.addAndGet(101);
+        scheduledCleanups.getFirst().run();
+
+        assertEquals(0, pool.getIdleCount());
+        // nothing left to clean up, thus no further cleanup is scheduled
+        assertEquals(1, scheduledCleanups.size());
+    }
+
+    @Test
+    void cleanupIsRescheduledWhileAdaptersAreKept() throws IOException {
+        pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+
+        scheduledCleanups.getFirst().run();
+
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(2, scheduledCleanups.size());
+    }
+
+    @Test
+    void discardsAdapterIfTaskFails() throws IOException {
+        assertThrows(IOException.class, () -> pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> {
+            throw new IOException("engine failure");
+        }));
+
+        assertEquals(0, pool.getIdleCount());
+        // the permit is given back
+        assertTrue(pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> true));
+        assertTrue(pool.execute("style", CitationStyleOutputFormat.HTML, adapter -> true));
+    }
+
+    private static CSLAdapter awaitAndReturn(CountDownLatch latch, CSLAdapter adapter) throws IOException {
+        latch.countDown();
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IOException("Adapters were not used concurrently");
+            }
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+        return adapter;
+    }
+}
@@ -45,6 +45,24 @@ class CitationStyleGeneratorTest {
         assertEquals(expected, citation);
     }
 
+    @Test
+    void generateBibliographyOfEachEntryKeepsOrderOfEntries() {
+        context.setMode(BibDatabaseMode.BIBLATEX);
+        CitationStyle style = styleList.stream().filter(e -> "American Psychological Association 7th edition".equals(e.getTitle())).findAny().get();
+        List<BibEntry> entries = List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Zulu, Z.").withField(StandardField.TITLE, "Last"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Alpha, A.").withField(StandardField.TITLE, "First"),
+                testEntry);
+
+        List<String> citations = CitationStyleGenerator.generateBibliographyOfEachEntry(entries, style.getSource(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager);
+
+        assertEquals(List.of(
+                CitationStyleGenerator.generateBibliography(List.of(entries.get(0)), style.getSource(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager).getFirst(),
+                CitationStyleGenerator.generateBibliography(List.of(entries.get(1)), style.getSource(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager).getFirst(),
+                CitationStyleGenerator.generateBibliography(List.of(entries.get(2)), style.getSource(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager).getFirst()),
+                citations);
+    }
+
     @Test
     void aPACitation() {
         context.setMode(BibDatabaseMode.BIBLATEX);
@@ -0,0 +1,87 @@
+package org.jabref.logic.citationstyle;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.util.NotificationService;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class MVStoreRenderedCitationsStorageTest {
+    @TempDir Path tempDir;
+
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+    private final BibEntry entry = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Smith, B.")
+            .withField(StandardField.TITLE, "Title");
+
+    private MVStoreRenderedCitationsStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new MVStoreRenderedCitationsStorage(tempDir.resolve("citations.mv"), mock(NotificationService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.close();
+    }
+
+    private void reopen() {
+        storage.close();
+        setUp();
+    }
+
+    @Test
+    void storedCitationSurvivesReopening() {
+        storage.set("style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext, List.of("rendered"));
+        reopen();
+
+        assertEquals(Optional.of(List.of("rendered")), storage.get("style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext));
+    }
+
+    @Test
+    void citationIsNotFoundForOtherStyleOrFormat() {
+        storage.set("style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext, List.of("rendered"));
+
+        assertEquals(Optional.empty(), storage.get("other style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext));
+        assertEquals(Optional.empty(), storage.get("style", CitationStyleOutputFormat.TEXT, List.of(entry), databaseContext));
+    }
+
+    @Test
+    void citationIsNotFoundAfterEntryChanged() {
+        storage.set("style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext, List.of("rendered"));
+        entry.setField(StandardField.TITLE, "Other title");
+
+        assertEquals(Optional.empty(), storage.get("style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext));
+    }
+
+    @Test
+    void citationIsFoundForEntryWithSameContent() {
+        storage.set("style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext, List.of("rendered"));
+        BibEntry copy = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Title")
+                .withField(StandardField.AUTHOR, "Smith, B.");
+
+        assertEquals(Optional.of(List.of("rendered")), storage.get("style", CitationStyleOutputFormat.HTML, List.of(copy), databaseContext));
+    }
+
+    @Test
+    void entryWithCrossrefIsNotStored() {
+        entry.setField(StandardField.CROSSREF, "parent");
+        storage.set("style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext, List.of("rendered"));
+
+        assertEquals(Optional.empty(), storage.get("style", CitationStyleOutputFormat.HTML, List.of(entry), databaseContext));
+    }
+}
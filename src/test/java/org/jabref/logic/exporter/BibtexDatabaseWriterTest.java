@@ -12,6 +12,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPatterns;
@@ -904,6 +906,28 @@ class BibtexDatabaseWriterTest {
                 stringWriter.toString());
     }
 
+    @Test
+    void writeManyEntriesKeepsOrder() throws Exception {
+        List<BibEntry> entries = IntStream.range(0, 2500)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withCitationKey("key" + i)
+                                                  .withField(StandardField.TITLE, "Title " + i)
+                                                  .withChanged(true))
+                                          .toList();
+        database.insertEntries(entries);
+        // three workers, independent of the processors of the test machine
+        databaseWriter.setParallelism(4);
+
+        databaseWriter.savePartOfDatabase(bibtexContext, database.getEntries());
+
+        String expected = IntStream.range(0, 2500)
+                                   .mapToObj(i -> "@Article{key" + i + "," + OS.NEWLINE +
+                                           "  title = {Title " + i + "}," + OS.NEWLINE +
+                                           "}" + OS.NEWLINE)
+                                   .collect(Collectors.joining(OS.NEWLINE));
+        assertEquals(expected, stringWriter.toString());
+    }
+
     @Test
     void normalizeWhitespacesCleanupOnlyInTextFields() throws Exception {
         BibEntry firstEntry = new BibEntry(StandardEntryType.Article)
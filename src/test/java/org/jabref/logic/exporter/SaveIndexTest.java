@@ -0,0 +1,163 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SaveIndexTest {
+
+    private static final String NEWLINE = "\n";
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private BibDatabase database;
+    private BibDatabaseContext context;
+    private SaveIndex saveIndex;
+    private FieldPreferences fieldPreferences;
+    private SelfContainedSaveConfiguration saveConfiguration;
+    private CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private BibEntryTypesManager entryTypesManager;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("library.bib");
+        database = new BibDatabase();
+        database.insertEntries(IntStream.range(0, 50)
+                                        .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                .withCitationKey("key" + i)
+                                                .withField(StandardField.TITLE, "Title " + i)
+                                                .withChanged(true))
+                                        .toList());
+        context = new BibDatabaseContext(database);
+        saveIndex = new SaveIndex(database);
+        fieldPreferences = new FieldPreferences(true, Collections.emptyList(), Collections.emptyList());
+        saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
+        citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        entryTypesManager = new BibEntryTypesManager();
+    }
+
+    private SaveIndex.Update save() throws IOException {
+        return save(StandardCharsets.UTF_8);
+    }
+
+    private SaveIndex.Update save(Charset encoding) throws IOException {
+        SaveIndex.Update update = saveIndex.startSave(file, encoding, NEWLINE, context.getMode(), fieldPreferences, false);
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, encoding)) {
+            BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(new BibWriter(fileWriter, NEWLINE), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+            databaseWriter.useSaveIndex(update, fileWriter);
+            databaseWriter.saveDatabase(context);
+        }
+        update.commit();
+        return update;
+    }
+
+    private String saveWithoutIndex() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new BibtexDatabaseWriter(new BibWriter(stringWriter, NEWLINE), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                .saveDatabase(context);
+        return stringWriter.toString();
+    }
+
+    @Test
+    void firstSaveSerializesAllEntries() throws Exception {
+        assertFalse(save().canCopy());
+        assertEquals(saveWithoutIndex(), Files.readString(file));
+    }
+
+    @Test
+    void saveAfterChangeCopiesUnchangedEntries() throws Exception {
+        save();
+        database.getEntries().get(20).setField(StandardField.TITLE, "Changed title with ümlauts");
+
+        assertTrue(save().canCopy());
+        assertEquals(saveWithoutIndex(), Files.readString(file));
+    }
+
+    @Test
+    void saveAfterRemovingAndAddingEntries() throws Exception {
+        save();
+        database.removeEntry(database.getEntries().getFirst());
+        database.removeEntry(database.getEntries().get(30));
+        database.insertEntry(new BibEntry(StandardEntryType.Book).withCitationKey("new").withChanged(true));
+        save();
+        database.getEntries().get(10).setField(StandardField.YEAR, "2024");
+
+        assertTrue(save().canCopy());
+        assertEquals(saveWithoutIndex(), Files.readString(file));
+    }
+
+    @Test
+    void saveAfterChangingPreambleAndOrder() throws Exception {
+        save();
+        database.setPreamble("A preamble");
+        saveConfiguration = new SelfContainedSaveConfiguration(
+                new SaveOrder(SaveOrder.OrderType.SPECIFIED, List.of(new SaveOrder.SortCriterion(StandardField.TITLE, true))),
+                false,
+                BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA,
+                false);
+
+        save();
+        assertEquals(saveWithoutIndex(), Files.readString(file));
+    }
+
+    @Test
+    void fileModifiedByOthersIsNotCopied() throws Exception {
+        save();
+        Files.writeString(file, "@Comment{changed}", StandardCharsets.UTF_8);
+
+        assertFalse(save().canCopy());
+        assertEquals(saveWithoutIndex(), Files.readString(file));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-16", "ISO-2022-JP"})
+    void saveTwiceInEncodingWithStateIsNotCorrupted(String encodingName) throws Exception {
+        Charset encoding = Charset.forName(encodingName);
+        database.getEntries().get(5).setField(StandardField.TITLE, "日本語のタイトル");
+        save(encoding);
+        database.getEntries().get(20).setField(StandardField.TITLE, "Changed title");
+
+        assertFalse(save(encoding).canCopy());
+        assertEquals(saveWithoutIndex(), Files.readString(file, encoding));
+    }
+
+    @Test
+    void saveTwiceInUtf16BigEndianCopiesUnchangedEntries() throws Exception {
+        database.getEntries().get(5).setField(StandardField.TITLE, "日本語のタイトル");
+        save(StandardCharsets.UTF_16BE);
+        database.getEntries().get(20).setField(StandardField.TITLE, "Changed title");
+
+        assertTrue(save(StandardCharsets.UTF_16BE).canCopy());
+        assertEquals(saveWithoutIndex(), Files.readString(file, StandardCharsets.UTF_16BE));
+    }
+}
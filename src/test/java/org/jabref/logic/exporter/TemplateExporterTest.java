@@ -0,0 +1,93 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.format.Number;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TemplateExporter createCustomExporter(String layout) throws Exception {
+        Path layoutFile = tempDir.resolve("numbered.layout");
+        Files.writeString(layoutFile, layout);
+        TemplateExporter exporter = new TemplateExporter(
+                "Numbered",
+                "numbered",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder(),
+                BlankLineBehaviour.DELETE_BLANKS);
+        exporter.setCustomExport(true);
+        // More than one worker also on machines with a single processor
+        exporter.setParallelism(4);
+        return exporter;
+    }
+
+    @Test
+    void exportOfManyEntriesKeepsOrderAndNumbering() throws Exception {
+        TemplateExporter exporter = createCustomExporter("\\format[Number]{\\citationkey} \\citationkey\n\n");
+        List<BibEntry> entries = IntStream.range(0, 2500)
+                                          .mapToObj(i -> new BibEntry().withCitationKey("key" + i))
+                                          .toList();
+        Path file = tempDir.resolve("export.txt");
+
+        exporter.export(new BibDatabaseContext(), file, entries);
+
+        List<String> expected = IntStream.range(0, 2500)
+                                         .mapToObj(i -> (i + 1) + " key" + i)
+                                         .toList();
+        assertEquals(expected, Files.readAllLines(file));
+        assertEquals(0, Number.getSerialExportNumber());
+    }
+
+    @Test
+    void deleteBlanksRemovesBlankLinesWithWindowsLineEndings() throws Exception {
+        TemplateExporter exporter = createCustomExporter("\\citationkey\r\n  \r\n\\begin{note}\\note\\end{note}\r\n");
+        Path file = tempDir.resolve("export.txt");
+
+        exporter.export(new BibDatabaseContext(), file, List.of(new BibEntry().withCitationKey("a"), new BibEntry().withCitationKey("b")));
+
+        assertEquals(List.of("a", "b"), Files.readAllLines(file));
+    }
+
+    @Test
+    void exportOfGroupBlockNestedInFieldBlockPrintsEachGroupOnce() throws Exception {
+        TemplateExporter exporter = createCustomExporter("\\begin{citationkey}\\begingroup{keywords}== \\keywords\n\\endgroup{keywords}\\end{citationkey}\\citationkey\n");
+        List<BibEntry> entries = IntStream.range(0, 2500)
+                                          .mapToObj(i -> new BibEntry().withCitationKey("key" + i).withField(StandardField.KEYWORDS, "nestedGroup" + (i / 1000)))
+                                          .toList();
+        Path file = tempDir.resolve("export.txt");
+
+        exporter.export(new BibDatabaseContext(), file, entries);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            if ((i % 1000) == 0) {
+                expected.add("== nestedGroup" + (i / 1000));
+            }
+            expected.add("key" + i);
+        }
+        assertEquals(expected, Files.readAllLines(file));
+    }
+}
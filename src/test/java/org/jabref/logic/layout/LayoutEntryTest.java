@@ -20,7 +20,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -132,4 +134,26 @@ class LayoutEntryTest {
         LayoutEntry layoutEntry = new LayoutEntry(parsedEntries, type, null, null, null);
         assertEquals(expectedValue, layoutEntry.doLayout(bibDatabaseContext, StandardCharsets.UTF_8));
     }
+
+    @Test
+    void fieldBlockContainingGroupBlockContainsGroupBlock() {
+        List<StringInt> parsedEntries = List.of(
+                new StringInt("title", LayoutHelper.IS_FIELD_START),
+                new StringInt("keywords", LayoutHelper.IS_GROUP_START),
+                new StringInt("keywords", LayoutHelper.IS_SIMPLE_COMMAND),
+                new StringInt("keywords", LayoutHelper.IS_GROUP_END),
+                new StringInt("title", LayoutHelper.IS_FIELD_END));
+        LayoutEntry layoutEntry = new LayoutEntry(parsedEntries, LayoutHelper.IS_FIELD_START, null, mock(LayoutFormatterPreferences.class), mock(JournalAbbreviationRepository.class));
+        assertTrue(layoutEntry.containsGroupBlock());
+    }
+
+    @Test
+    void fieldBlockWithoutGroupBlockDoesNotContainGroupBlock() {
+        List<StringInt> parsedEntries = List.of(
+                new StringInt("title", LayoutHelper.IS_FIELD_START),
+                new StringInt("title", LayoutHelper.IS_SIMPLE_COMMAND),
+                new StringInt("title", LayoutHelper.IS_FIELD_END));
+        LayoutEntry layoutEntry = new LayoutEntry(parsedEntries, LayoutHelper.IS_FIELD_START, null, mock(LayoutFormatterPreferences.class), mock(JournalAbbreviationRepository.class));
+        assertFalse(layoutEntry.containsGroupBlock());
+    }
 }
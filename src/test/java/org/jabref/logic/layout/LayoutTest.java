@@ -9,6 +9,7 @@ import java.util.List;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.logic.layout.format.ToLowerCase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.StandardField;
@@ -186,4 +187,18 @@ class LayoutTest {
 
         assertEquals("Joe Doe and Mary Jane: Joe Doe and Mary Jane 1:corresponding,2:highlight", layoutText);
     }
+
+    @Test
+    void sameLayoutForSeveralEntries() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\begin{!year}no year\\end{!year}\\begin{editor||author}\\format[ToUpperCase]{\\author}\\end{editor||author}: \\title"),
+                layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+        layout.setPostFormatter(new ToLowerCase());
+
+        BibEntry first = new BibEntry().withField(StandardField.AUTHOR, "Joe Doe").withField(StandardField.TITLE, "First Title");
+        BibEntry second = new BibEntry().withField(StandardField.YEAR, "2024").withField(StandardField.TITLE, "Second Title");
+
+        assertEquals("no yearJOE DOE: first title", layout.doLayout(first, null));
+        assertEquals(": second title", layout.doLayout(second, null));
+    }
 }
@@ -1,6 +1,7 @@
 package org.jabref.logic.remote;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.jabref.logic.remote.client.RemoteClient;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
@@ -10,9 +11,14 @@ import org.jabref.support.DisabledOnCIServer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -39,6 +45,7 @@ class RemoteCommunicationTest {
 
     @AfterEach
     void tearDown() {
+        client.close();
         serverLifeCycle.close();
     }
 
@@ -78,9 +85,49 @@ class RemoteCommunicationTest {
     void commandLineArgumentEncodingAndDecoding() {
         final String[] message = new String[]{"D:\\T EST\\测试te st.bib"};
 
-        // will be encoded as "D%3A%5CT+EST%5C%E6%B5%8B%E8%AF%95te+st.bib"
+        // will be encoded as UTF-8
         client.sendCommandLineArguments(message);
 
         verify(server).handleCommandLineArguments(message);
     }
+
+    @Test
+    void commandLineArgumentsOfSeveralMessagesPassedToServer() {
+        final String[] first = new String[]{"first message"};
+        final String[] second = new String[]{"second message"};
+
+        assertTrue(client.ping());
+        assertTrue(client.sendCommandLineArguments(first));
+        assertTrue(client.sendCommandLineArguments(second));
+
+        verify(server).handleCommandLineArguments(first);
+        verify(server).handleCommandLineArguments(second);
+    }
+
+    @Test
+    void commandLineArgumentBatchPassedToServer() {
+        final List<String[]> batch = List.of(new String[]{"--importToOpen", "first.bib"}, new String[]{"--importToOpen", "测试.bib"});
+
+        assertTrue(client.sendCommandLineArguments(batch));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(server).handleCommandLineArgumentsBatch(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertArrayEquals(batch.get(0), captor.getValue().get(0));
+        assertArrayEquals(batch.get(1), captor.getValue().get(1));
+    }
+
+    @Test
+    void failingHandlerDoesNotLeadToSendingCommandAgain() {
+        final String[] failing = new String[]{"failing"};
+        final String[] next = new String[]{"next"};
+        doThrow(new IllegalStateException("handler failed")).when(server).handleCommandLineArguments(failing);
+
+        assertTrue(client.sendCommandLineArguments(failing));
+        assertTrue(client.sendCommandLineArguments(next));
+
+        verify(server, times(1)).handleCommandLineArguments(failing);
+        verify(server).handleCommandLineArguments(next);
+    }
 }
@@ -0,0 +1,100 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DBMSConnectionPoolTest {
+
+    private int openedConnections;
+    private DBMSConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        openedConnections = 0;
+        pool = new DBMSConnectionPool(this::openConnection, 2);
+    }
+
+    private Connection openConnection() throws SQLException {
+        openedConnections++;
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        return connection;
+    }
+
+    @Test
+    void releasedConnectionIsReused() throws SQLException {
+        Connection first;
+        try (DBMSConnectionPool.PooledConnection pooledConnection = pool.acquire()) {
+            first = pooledConnection.getConnection();
+        }
+        try (DBMSConnectionPool.PooledConnection pooledConnection = pool.acquire()) {
+            assertSame(first, pooledConnection.getConnection());
+        }
+        assertEquals(1, openedConnections);
+    }
+
+    @Test
+    void concurrentlyUsedConnectionsDiffer() throws SQLException {
+        try (DBMSConnectionPool.PooledConnection first = pool.acquire();
+             DBMSConnectionPool.PooledConnection second = pool.acquire()) {
+            assertNotSame(first.getConnection(), second.getConnection());
+        }
+        assertEquals(2, openedConnections);
+    }
+
+    @Test
+    void statementIsPreparedOncePerConnection() throws SQLException {
+        PreparedStatement first;
+        Connection connection;
+        try (DBMSConnectionPool.PooledConnection pooledConnection = pool.acquire()) {
+            connection = pooledConnection.getConnection();
+            first = pooledConnection.prepareCachedStatement("SELECT 1");
+        }
+        try (DBMSConnectionPool.PooledConnection pooledConnection = pool.acquire()) {
+            assertSame(first, pooledConnection.prepareCachedStatement("SELECT 1"));
+        }
+        verify(connection, times(1)).prepareStatement("SELECT 1");
+        verify(first).clearParameters();
+    }
+
+    @Test
+    void connectionLeftInTransactionIsNotReused() throws SQLException {
+        Connection first;
+        try (DBMSConnectionPool.PooledConnection pooledConnection = pool.acquire()) {
+            first = pooledConnection.getConnection();
+            when(first.getAutoCommit()).thenReturn(false);
+        }
+        verify(first).close();
+        try (DBMSConnectionPool.PooledConnection pooledConnection = pool.acquire()) {
+            assertNotSame(first, pooledConnection.getConnection());
+        }
+    }
+
+    @Test
+    void closedPoolClosesIdleConnectionsAndRejectsAcquire() throws SQLException {
+        Connection first;
+        try (DBMSConnectionPool.PooledConnection pooledConnection = pool.acquire()) {
+            first = pooledConnection.getConnection();
+        }
+        pool.close();
+        verify(first).close();
+        assertThrows(SQLException.class, pool::acquire);
+    }
+}
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -140,6 +141,38 @@ class DBMSProcessorTest {
         assertEquals(Optional.of(expectedEntry), actualEntry);
     }
 
+    @Test
+    void updateEntryWritesChangedAddedAndRemovedFields() throws Exception {
+        BibEntry expectedEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(expectedEntry);
+
+        // Title, year and citation key stay unchanged
+        expectedEntry.setField(StandardField.AUTHOR, "Michael J and Hutchings");
+        expectedEntry.setField(new UnknownField("customField"), "custom value");
+        expectedEntry.clearField(StandardField.BOOKTITLE);
+        dbmsProcessor.updateEntry(expectedEntry);
+
+        Map<String, String> actualFieldMap = new HashMap<>();
+        try (ResultSet entryResultSet = selectFrom("ENTRY", dbmsConnection, dbmsProcessor)) {
+            assertTrue(entryResultSet.next());
+            assertEquals(2, entryResultSet.getInt("VERSION"));
+            assertFalse(entryResultSet.next());
+
+            try (ResultSet fieldResultSet = selectFrom("FIELD", dbmsConnection, dbmsProcessor)) {
+                while (fieldResultSet.next()) {
+                    assertEquals(expectedEntry.getSharedBibEntryData().getSharedID(), fieldResultSet.getInt("ENTRY_SHARED_ID"));
+                    // Each field is stored once, also if it was updated
+                    assertNull(actualFieldMap.put(fieldResultSet.getString("NAME"), fieldResultSet.getString("VALUE")));
+                }
+            }
+        }
+
+        Map<String, String> expectedFieldMap = expectedEntry.getFieldMap().entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().getName(), Map.Entry::getValue));
+        assertFalse(actualFieldMap.containsKey(StandardField.BOOKTITLE.getName()));
+        assertEquals("Michael J and Hutchings", actualFieldMap.get(StandardField.AUTHOR.getName()));
+        assertEquals(expectedFieldMap, actualFieldMap);
+    }
+
     @Test
     void updateEmptyEntry() throws Exception {
         BibEntry expectedEntry = new BibEntry(StandardEntryType.Article);
@@ -303,6 +336,20 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void getEntryTableSummary() throws OfflineLockException, SQLException {
+        assertEquals(Optional.of(new DBMSProcessor.EntryTableSummary(0, 0, 0)), dbmsProcessor.getEntryTableSummary());
+
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(firstEntry);
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(secondEntry);
+
+        DBMSProcessor.EntryTableSummary expectedSummary = new DBMSProcessor.EntryTableSummary(2, secondEntry.getSharedBibEntryData().getSharedID(), 3);
+        assertEquals(Optional.of(expectedSummary), dbmsProcessor.getEntryTableSummary());
+    }
+
     @Test
     void getSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
@@ -0,0 +1,64 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveUpdatePayloadTest {
+
+    @Test
+    void processorIdOnlyAnnouncesAnyChange() {
+        LiveUpdatePayload payload = LiveUpdatePayload.parse("processor");
+
+        assertEquals("processor", payload.processorId());
+        assertFalse(payload.isEntryChange());
+    }
+
+    @Test
+    void changedEntriesAreParsed() {
+        List<String> payloads = LiveUpdatePayload.toPayloads("processor", Map.of(1, 2, 3, LiveUpdatePayload.REMOVED));
+
+        assertEquals(1, payloads.size());
+        assertEquals(new LiveUpdatePayload("processor", Map.of(1, 2, 3, LiveUpdatePayload.REMOVED)), LiveUpdatePayload.parse(payloads.getFirst()));
+    }
+
+    @Test
+    void noPayloadWithoutChangedEntries() {
+        assertEquals(List.of(), LiveUpdatePayload.toPayloads("processor", Map.of()));
+    }
+
+    @Test
+    void manyChangedEntriesAreSplit() {
+        Map<Integer, Integer> changedEntries = IntStream.range(0, 2000).boxed().collect(Collectors.toMap(id -> id, id -> 1));
+
+        List<String> payloads = LiveUpdatePayload.toPayloads("processor", changedEntries);
+
+        assertTrue(payloads.size() > 1);
+        assertTrue(payloads.stream().allMatch(payload -> payload.length() < 8000));
+        Map<Integer, Integer> parsedEntries = new HashMap<>();
+        payloads.forEach(payload -> parsedEntries.putAll(LiveUpdatePayload.parse(payload).changedEntries()));
+        assertEquals(changedEntries, parsedEntries);
+    }
+
+    @Test
+    void malformedPayloadAnnouncesAnyChange() {
+        assertFalse(LiveUpdatePayload.parse("processor;1:x").isEntryChange());
+    }
+
+    @Test
+    void mergeKeepsRemovalAndHighestVersion() {
+        Map<Integer, Integer> changedEntries = new HashMap<>(Map.of(1, 2, 2, 5));
+
+        LiveUpdatePayload.merge(changedEntries, Map.of(1, 3, 2, LiveUpdatePayload.REMOVED, 3, 1));
+
+        assertEquals(Map.of(1, 3, 2, LiveUpdatePayload.REMOVED, 3, 1), changedEntries);
+    }
+}
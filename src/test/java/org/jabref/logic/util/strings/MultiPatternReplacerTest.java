@@ -0,0 +1,56 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiPatternReplacerTest {
+
+    private final MultiPatternReplacer replacer = new MultiPatternReplacer(Map.of(
+            "&amp;", "\\&",
+            "&lt;", "<",
+            "ab", "x",
+            "abc", "y",
+            "ä", "{\\\"a}",
+            "𝐀", "\\mathbf{A}"));
+
+    @ParameterizedTest
+    @MethodSource
+    void replaceAll(String expected, String input) {
+        assertEquals(expected, replacer.replaceAll(input));
+    }
+
+    private static Stream<Arguments> replaceAll() {
+        return Stream.of(
+                Arguments.of("", ""),
+                Arguments.of("\\& <", "&amp; &lt;"),
+                // Replacements are not scanned again
+                Arguments.of("\\&lt;", "&amp;lt;"),
+                // The longest pattern wins
+                Arguments.of("yx", "abcab"),
+                Arguments.of("a x", "a ab"),
+                Arguments.of("M{\\\"a}nchen", "Mänchen"),
+                Arguments.of("\\mathbf{A}", "𝐀"),
+                // Incomplete patterns at the end
+                Arguments.of("x&am", "ab&am"));
+    }
+
+    @Test
+    void textWithoutPatternIsReturnedAsIs() {
+        String text = "no patterns here";
+        assertSame(text, replacer.replaceAll(text));
+    }
+
+    @Test
+    void emptyPatternIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiPatternReplacer(Map.of("", "x")));
+    }
+}
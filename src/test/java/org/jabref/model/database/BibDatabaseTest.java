@@ -487,4 +487,51 @@ class BibDatabaseTest {
         assertEquals(1, database.indexOf(entryD));
         assertEquals(-1, database.indexOf(entryA));
     }
+
+    @Test
+    void resolvedFieldIsCachedUntilEntryChanges() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title");
+        database.insertEntry(entry);
+
+        assertEquals(Optional.of("Title"), entry.getResolvedFieldOrAlias(StandardField.TITLE, database));
+        long hits = database.getResolvedFieldCacheStats().hitCount();
+        assertEquals(Optional.of("Title"), entry.getResolvedFieldOrAlias(StandardField.TITLE, database));
+        assertEquals(hits + 1, database.getResolvedFieldCacheStats().hitCount());
+
+        entry.setField(StandardField.TITLE, "Changed");
+        assertEquals(Optional.of("Changed"), entry.getResolvedFieldOrAlias(StandardField.TITLE, database));
+    }
+
+    @Test
+    void resolvedFieldFollowsChangesOfCrossrefParent() {
+        BibEntry parent = new BibEntry(StandardEntryType.Proceedings).withCitationKey("parent").withField(StandardField.TITLE, "Proceedings");
+        BibEntry child = new BibEntry(StandardEntryType.InProceedings).withField(StandardField.CROSSREF, "parent");
+        database.insertEntries(parent, child);
+        assertEquals(Optional.of("Proceedings"), child.getResolvedFieldOrAlias(StandardField.BOOKTITLE, database));
+
+        parent.setField(StandardField.TITLE, "Changed proceedings");
+        assertEquals(Optional.of("Changed proceedings"), child.getResolvedFieldOrAlias(StandardField.BOOKTITLE, database));
+
+        parent.setCitationKey("other");
+        assertEquals(Optional.empty(), child.getResolvedFieldOrAlias(StandardField.BOOKTITLE, database));
+
+        BibEntry newParent = new BibEntry(StandardEntryType.Proceedings).withCitationKey("parent").withField(StandardField.TITLE, "New proceedings");
+        database.insertEntry(newParent);
+        assertEquals(Optional.of("New proceedings"), child.getResolvedFieldOrAlias(StandardField.BOOKTITLE, database));
+    }
+
+    @Test
+    void resolvedFieldFollowsChangesOfUsedString() {
+        BibtexString string = new BibtexString("DSP", "Digital Signal Processing");
+        database.addString(string);
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.JOURNAL, "#DSP#");
+        database.insertEntry(entry);
+        assertEquals(Optional.of("Digital Signal Processing"), entry.getResolvedFieldOrAlias(StandardField.JOURNAL, database));
+
+        string.setContent("Signal Processing");
+        assertEquals(Optional.of("Signal Processing"), entry.getResolvedFieldOrAlias(StandardField.JOURNAL, database));
+
+        database.removeString(string.getId());
+        assertEquals(Optional.of("#DSP#"), entry.getResolvedFieldOrAlias(StandardField.JOURNAL, database));
+    }
 }
@@ -119,6 +119,14 @@ public class AuthorListTest {
         assertNotSame(authorList, AuthorList.parse("Smith").latexFree());
     }
 
+    @Test
+    void parseOfCachedAuthorsCountsAsHit() {
+        AuthorList.parse("Jane Cached and John Cached");
+        long hitsBefore = AuthorList.getCacheStats().hitCount();
+        AuthorList.parse("Jane Cached and John Cached");
+        assertTrue(AuthorList.getCacheStats().hitCount() > hitsBefore);
+    }
+
     @Test
     void fixAuthorFirstNameFirstCommas() {
         // No Commas
@@ -22,6 +22,7 @@ import org.jabref.model.entry.field.SpecialField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.event.EventListenerTest;
 
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
@@ -846,4 +847,57 @@ class BibEntryTest {
     void isNotEmpty(BibEntry entry) {
         assertFalse(entry.isEmpty());
     }
+
+    @Test
+    void getFieldAsNormalizedWordsReturnsLowerCaseWords() {
+        entry.setField(StandardField.KEYWORDS, "Machine Learning, GPU;deep");
+        assertEquals(Set.of("machine", "learning", "gpu", "deep"), entry.getFieldAsNormalizedWords(StandardField.KEYWORDS));
+    }
+
+    @Test
+    void getFieldAsNormalizedWordsIsUpdatedOnFieldChange() {
+        entry.setField(StandardField.KEYWORDS, "Old");
+        entry.getFieldAsNormalizedWords(StandardField.KEYWORDS);
+        entry.setField(StandardField.KEYWORDS, "New");
+        assertEquals(Set.of("new"), entry.getFieldAsNormalizedWords(StandardField.KEYWORDS));
+    }
+
+    @Test
+    void getFieldAsNormalizedWordsOfMissingFieldIsEmpty() {
+        assertEquals(Set.of(), entry.getFieldAsNormalizedWords(StandardField.KEYWORDS));
+    }
+
+    @Test
+    void listenerRegisteredAfterChangesIsNotifiedAboutLaterChanges() {
+        entry.setField(StandardField.TITLE, "Before");
+        EventListenerTest listener = new EventListenerTest();
+        entry.registerListener(listener);
+
+        entry.setField(StandardField.TITLE, "After");
+
+        assertEquals(entry, listener.getChangedEntry());
+    }
+
+    @Test
+    void unregisterListenerWithoutRegisteredListenersDoesNotFail() {
+        entry.unregisterListener(new EventListenerTest());
+        entry.setField(StandardField.TITLE, "Title");
+        assertEquals(Optional.of("Title"), entry.getField(StandardField.TITLE));
+    }
+
+    @Test
+    void getFieldLatexFreeIsUpdatedOnFieldChange() {
+        entry.setField(StandardField.TITLE, "{\\\"a}");
+        assertEquals(Optional.of("ä"), entry.getFieldLatexFree(StandardField.TITLE));
+        entry.setField(StandardField.TITLE, "{\\\"o}");
+        assertEquals(Optional.of("ö"), entry.getFieldLatexFree(StandardField.TITLE));
+    }
+
+    @Test
+    void getFieldAsKeywordsIsUpdatedOnFieldChange() {
+        entry.setField(StandardField.KEYWORDS, "one, two");
+        assertEquals(new KeywordList("one", "two"), entry.getFieldAsKeywords(StandardField.KEYWORDS, ','));
+        entry.setField(StandardField.KEYWORDS, "three");
+        assertEquals(new KeywordList("three"), entry.getFieldAsKeywords(StandardField.KEYWORDS, ','));
+    }
 }
@@ -0,0 +1,61 @@
+package org.jabref.model.groups;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegexKeywordGroupTest {
+
+    private final BibEntry entry = new BibEntry();
+
+    @Test
+    void containsFindsPlainWord() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "test", true);
+        entry.setField(StandardField.KEYWORDS, "some, test, keywords");
+
+        assertTrue(group.contains(entry));
+    }
+
+    @Test
+    void containsDoesNotFindPlainWordAsPartOfOtherWord() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "test", true);
+        entry.setField(StandardField.KEYWORDS, "testing, attest");
+
+        assertFalse(group.contains(entry));
+    }
+
+    @Test
+    void containsFindsPlainWordIfCaseDiffers() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "test", false);
+        entry.setField(StandardField.KEYWORDS, "some, TeSt, keywords");
+
+        assertTrue(group.contains(entry));
+    }
+
+    @Test
+    void containsDoesNotFindPlainWordIfCaseDiffersInCaseSensitiveMode() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "test", true);
+        entry.setField(StandardField.KEYWORDS, "some, TeSt, keywords");
+
+        assertFalse(group.contains(entry));
+    }
+
+    @Test
+    void containsFindsRegex() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "te.t", false);
+        entry.setField(StandardField.KEYWORDS, "some, TEXT, keywords");
+
+        assertTrue(group.contains(entry));
+    }
+
+    @Test
+    void containsReturnsFalseForMissingField() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "test", false);
+
+        assertFalse(group.contains(entry));
+    }
+}
@@ -83,6 +83,22 @@ class WordKeywordGroupTest {
         assertFalse(testCaseSensitiveGroup.contains(entry));
     }
 
+    @Test
+    void containsFindsWordIfCaseDiffers() {
+        entry.setField(StandardField.KEYWORDS, "Some,list,containing,TeSt,word");
+
+        assertTrue(testGroup.contains(entry));
+    }
+
+    @Test
+    void containsReflectsChangedField() {
+        entry.setField(StandardField.KEYWORDS, "test");
+        assertTrue(testGroup.contains(entry));
+
+        entry.setField(StandardField.KEYWORDS, "other");
+        assertFalse(testGroup.contains(entry));
+    }
+
     @Test
     void addChangesFieldIfEmptyBefore() throws Exception {
         testGroup.add(entry);
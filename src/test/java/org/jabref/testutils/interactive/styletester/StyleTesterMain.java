@@ -6,8 +6,8 @@ import javafx.stage.Stage;
 
 import org.jabref.gui.preferences.JabRefGuiPreferences;
 import org.jabref.gui.theme.ThemeManager;
-import org.jabref.gui.util.DefaultFileUpdateMonitor;
 import org.jabref.logic.JabRefException;
+import org.jabref.logic.util.DefaultFileUpdateMonitor;
 import org.jabref.logic.util.HeadlessExecutorService;
 
 /**